@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the class initialization of the country enums, i.e. creating
+ * all CountryPath nodes, and parsing their rings. Both happen once per
+ * JVM, so every measurement is a single shot in a fresh fork.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class CountryBenchmark {
+
+    @Setup public void setup() {
+        // starts the toolkit only, the enums must not be loaded before the benchmark
+        FxPlatform.start();
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public Object initHighRes() { return CountryHighRes.values(); }
+
+    @Benchmark public Object initLowRes() { return CountryLowRes.values(); }
+
+    @Benchmark public void initAndParseHighRes(final Blackhole BLACKHOLE) {
+        for (Country country : CountryHighRes.values()) { BLACKHOLE.consume(country.getRings()); }
+    }
+
+    @Benchmark public void initAndParseLowRes(final Blackhole BLACKHOLE) {
+        for (Country country : CountryLowRes.values()) { BLACKHOLE.consume(country.getRings()); }
+    }
+}
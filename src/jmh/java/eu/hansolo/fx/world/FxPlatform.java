@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+
+/**
+ * Starts the JavaFX toolkit once per benchmark JVM so that the country
+ * enums and nodes can be created outside of an Application. Worlds and
+ * their locations are changed on the FX application thread, the world
+ * posts follow up work there with Platform.runLater.
+ */
+final class FxPlatform {
+    private static boolean started;
+
+
+    // ******************** Constructors **************************************
+    private FxPlatform() {}
+
+
+    // ******************** Methods *******************************************
+    static synchronized void start() {
+        if (started) { return; }
+        final CountDownLatch LATCH = new CountDownLatch(1);
+        PlatformImpl.startup(LATCH::countDown);
+        try {
+            LATCH.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        started = true;
+    }
+
+    /**
+     * Runs the given code on the FX application thread and waits for it.
+     */
+    static void run(final Runnable RUNNABLE) {
+        call(() -> {
+            RUNNABLE.run();
+            return null;
+        });
+    }
+
+    /**
+     * Calls the given code on the FX application thread and returns its result.
+     */
+    static <T> T call(final Callable<T> CALLABLE) {
+        if (Platform.isFxApplicationThread()) {
+            try {
+                return CALLABLE.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        final FutureTask<T> TASK = new FutureTask<>(CALLABLE);
+        Platform.runLater(TASK);
+        try {
+            return TASK.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
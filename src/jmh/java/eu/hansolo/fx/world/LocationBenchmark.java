@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the per point math: the Mercator projection that addLocation
+ * uses to place a marker and the haversine distance of Location.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LocationBenchmark {
+    private static final int      COUNT = 1024;
+    private              double[] latitudes;
+    private              double[] longitudes;
+    private              Location origin;
+
+
+    @Setup public void setup() {
+        final Random RND = new Random(42);
+        latitudes  = new double[COUNT];
+        longitudes = new double[COUNT];
+        for (int i = 0 ; i < COUNT ; i++) {
+            latitudes[i]  = RND.nextDouble() * 170 - 85;
+            longitudes[i] = RND.nextDouble() * 360 - 180;
+        }
+        origin = new Location("Origin", 51.911858, 7.632815);
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark @OperationsPerInvocation(COUNT) public void projection(final Blackhole BLACKHOLE) {
+        for (int i = 0 ; i < COUNT ; i++) {
+            BLACKHOLE.consume(Projection.toX(longitudes[i]));
+            BLACKHOLE.consume(Projection.toY(latitudes[i]));
+        }
+    }
+
+    @Benchmark @OperationsPerInvocation(COUNT) public void calcDistanceInMeter(final Blackhole BLACKHOLE) {
+        final double LAT = origin.getLatitude();
+        final double LON = origin.getLongitude();
+        for (int i = 0 ; i < COUNT ; i++) {
+            BLACKHOLE.consume(origin.calcDistanceInMeter(LAT, LON, latitudes[i], longitudes[i]));
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+
+/**
+ * Scenario benchmark that runs WorldHighRes and WorldLowRes in a stage
+ * with software rendering, usually under headless Monocle:
+ * <pre>
+ * java -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw \
+ *      eu.hansolo.fx.world.RenderingBenchmark results.json
+ * </pre>
+ * Every step of a scenario is one emulated pulse on the FX thread: the
+ * action, CSS, layout and a software render of the complete scene. The
+ * durations of the pulses, the number of layout passes and the peak number
+ * of nodes are written as JSON. The gradle task checkRenderBaseline
+ * compares them with the committed baseline. It is not part of check, the
+ * pulse times depend on the machine, so the baseline has to be updated with
+ * -PupdateRenderBaseline on the machine that runs the comparison.
+ */
+public final class RenderingBenchmark {
+    private static final int     WARMUP_RUNS    = 2;
+    private static final int     RESIZE_PULSES  = 120;
+    private static final int     RECOLOR_PULSES = 60;
+    private static final int     BULK_PULSES    = 20;
+    private static final int     BULK_CHUNK     = 1000;
+    private static final double  WIDTH          = 1009;
+    private static final double  HEIGHT         = 665;
+    private        final Stage   STAGE;
+    private        final Pane    ROOT;
+    private        final Scene   SCENE;
+    private        final WritableImage IMAGE;
+    private              int     layouts;
+    private              int     nodes;
+
+
+    // ******************** Constructors **************************************
+    private RenderingBenchmark() {
+        STAGE = new Stage();
+        ROOT  = new Pane();
+        SCENE = new Scene(ROOT, WIDTH, HEIGHT);
+        IMAGE = new WritableImage((int) WIDTH, (int) HEIGHT);
+        STAGE.setScene(SCENE);
+        STAGE.show();
+    }
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] ARGS) throws Exception {
+        if (ARGS.length < 1) { throw new IllegalArgumentException("Usage: RenderingBenchmark <results.json>"); }
+        FxPlatform.start();
+        final RenderingBenchmark BENCHMARK = onFxThread(RenderingBenchmark::new);
+        final List<Result>       RESULTS   = new ArrayList<>();
+        RESULTS.addAll(BENCHMARK.runAll("HighRes", WorldHighRes::new));
+        RESULTS.addAll(BENCHMARK.runAll("LowRes", WorldLowRes::new));
+
+        final Path OUTPUT = Paths.get(ARGS[0]);
+        if (null != OUTPUT.toAbsolutePath().getParent()) { Files.createDirectories(OUTPUT.toAbsolutePath().getParent()); }
+        Files.write(OUTPUT, toJson(RESULTS).getBytes(StandardCharsets.UTF_8));
+        for (Result result : RESULTS) { System.out.println(result); }
+        System.out.println("Results written to " + OUTPUT);
+        Platform.exit();
+    }
+
+    private List<Result> runAll(final String NAME, final Supplier<World> FACTORY) throws Exception {
+        final World WORLD = onFxThread(() -> {
+            final World world = FACTORY.get();
+            world.scalableContentPane.needsLayoutProperty().addListener((o, ov, nv) -> { if (!nv) { layouts++; } });
+            ROOT.getChildren().setAll(world);
+            return world;
+        });
+        final List<Result> RESULTS = new ArrayList<>();
+        for (int run = 0 ; run <= WARMUP_RUNS ; run++) {
+            final boolean MEASURE = WARMUP_RUNS == run;
+            add(RESULTS, MEASURE, run(NAME + ".hoverSweep", WORLD, this::hoverSweep));
+            add(RESULTS, MEASURE, run(NAME + ".resizeStorm", WORLD, this::resizeStorm));
+            add(RESULTS, MEASURE, run(NAME + ".recolor", WORLD, this::recolor));
+            add(RESULTS, MEASURE, run(NAME + ".bulkLocations", WORLD, this::bulkLocations));
+        }
+        onFxThread(() -> ROOT.getChildren().clear());
+        return RESULTS;
+    }
+
+    private static void add(final List<Result> RESULTS, final boolean MEASURE, final Result RESULT) {
+        if (MEASURE) { RESULTS.add(RESULT); }
+    }
+
+    private Result run(final String SCENARIO, final World WORLD, final Function<World, List<Runnable>> STEPS) throws Exception {
+        final List<Runnable> ACTIONS   = onFxThread(() -> STEPS.apply(WORLD));
+        final long[]         DURATIONS = new long[ACTIONS.size()];
+        onFxThread(() -> {
+            layouts = 0;
+            nodes   = 0;
+        });
+        for (int i = 0 ; i < DURATIONS.length ; i++) { DURATIONS[i] = pulse(ACTIONS.get(i)); }
+        final int LAYOUTS = onFxThread(() -> layouts);
+        final int NODES   = onFxThread(() -> nodes);
+        return new Result(SCENARIO, DURATIONS, LAYOUTS, NODES);
+    }
+
+    /**
+     * Runs the action and everything a pulse does for it on the FX thread,
+     * runnables that were queued before, e.g. by Platform.runLater, run first.
+     */
+    private long pulse(final Runnable ACTION) throws Exception {
+        return onFxThread(() -> {
+            final long START = System.nanoTime();
+            ACTION.run();
+            ROOT.applyCss();
+            ROOT.layout();
+            SCENE.snapshot(IMAGE);
+            final long DURATION = System.nanoTime() - START;
+            nodes = Math.max(nodes, countNodes(ROOT));
+            return DURATION;
+        });
+    }
+
+
+    // ******************** Scenarios *****************************************
+    private List<Runnable> hoverSweep(final World WORLD) {
+        final List<Runnable> STEPS = new ArrayList<>();
+        for (List<CountryPath> paths : WORLD.countryPaths.values()) {
+            if (paths.isEmpty()) { continue; }
+            final CountryPath PATH = paths.get(0);
+            STEPS.add(() -> Event.fireEvent(PATH, mouseEvent(MouseEvent.MOUSE_ENTERED)));
+            STEPS.add(() -> Event.fireEvent(PATH, mouseEvent(MouseEvent.MOUSE_EXITED)));
+        }
+        return STEPS;
+    }
+
+    private List<Runnable> resizeStorm(final World WORLD) {
+        final double[][]     SIZES = { { 1009, 665 }, { 800, 527 }, { 640, 422 }, { 960, 633 }, { 400, 264 } };
+        final List<Runnable> STEPS = new ArrayList<>();
+        for (int i = 0 ; i < RESIZE_PULSES ; i++) {
+            final double[] SIZE = SIZES[i % SIZES.length];
+            STEPS.add(() -> WORLD.setPrefSize(SIZE[0], SIZE[1]));
+        }
+        STEPS.add(() -> WORLD.setPrefSize(WIDTH, HEIGHT));
+        return STEPS;
+    }
+
+    private List<Runnable> recolor(final World WORLD) {
+        final Color          ORIGINAL = WORLD.getFillColor();
+        final List<Runnable> STEPS    = new ArrayList<>();
+        for (int i = 0 ; i < RECOLOR_PULSES ; i++) {
+            final Color COLOR = Color.hsb(i * 360.0 / RECOLOR_PULSES, 0.6, 0.8);
+            STEPS.add(() -> WORLD.setFillColor(COLOR));
+        }
+        STEPS.add(() -> WORLD.setFillColor(ORIGINAL));
+        return STEPS;
+    }
+
+    private List<Runnable> bulkLocations(final World WORLD) {
+        final Random         RND   = new Random(42);
+        final List<Runnable> STEPS = new ArrayList<>();
+        for (int i = 0 ; i < BULK_PULSES ; i++) {
+            final Location[] CHUNK = new Location[BULK_CHUNK];
+            for (int j = 0 ; j < BULK_CHUNK ; j++) { CHUNK[j] = new Location(RND.nextDouble() * 170 - 85, RND.nextDouble() * 360 - 180); }
+            STEPS.add(() -> WORLD.addLocations(CHUNK));
+        }
+        STEPS.add(WORLD::clearLocations);
+        return STEPS;
+    }
+
+    private static MouseEvent mouseEvent(final EventType<MouseEvent> TYPE) {
+        return new MouseEvent(TYPE, 0, 0, 0, 0, MouseButton.NONE, 0, false, false, false, false, false, false, false, false, false, false, null);
+    }
+
+    private static int countNodes(final Node NODE) {
+        int count = 1;
+        if (NODE instanceof Parent) {
+            for (Node child : ((Parent) NODE).getChildrenUnmodifiable()) { count += countNodes(child); }
+        }
+        return count;
+    }
+
+    private static <T> T onFxThread(final Supplier<T> SUPPLIER) throws Exception {
+        final CompletableFuture<T> FUTURE = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                FUTURE.complete(SUPPLIER.get());
+            } catch (Throwable t) {
+                FUTURE.completeExceptionally(t);
+            }
+        });
+        try {
+            return FUTURE.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+    private static void onFxThread(final Runnable RUNNABLE) throws Exception {
+        onFxThread(() -> { RUNNABLE.run(); return null; });
+    }
+
+
+    // ******************** JSON **********************************************
+    private static String toJson(final List<Result> RESULTS) {
+        final StringBuilder JSON = new StringBuilder("[\n");
+        for (int i = 0 ; i < RESULTS.size() ; i++) {
+            final Result RESULT = RESULTS.get(i);
+            JSON.append(String.format(Locale.US,
+                                      "    { \"scenario\" : \"%s\", \"pulses\" : %d, \"meanMillis\" : %.3f, \"p50Millis\" : %.3f, \"p95Millis\" : %.3f, \"p99Millis\" : %.3f, \"maxMillis\" : %.3f, \"layouts\" : %d, \"nodes\" : %d }",
+                                      RESULT.SCENARIO, RESULT.PULSES, RESULT.MEAN, RESULT.P50, RESULT.P95, RESULT.P99, RESULT.MAX, RESULT.LAYOUTS, RESULT.NODES))
+                .append(i < RESULTS.size() - 1 ? ",\n" : "\n");
+        }
+        return JSON.append("]\n").toString();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private interface Supplier<T> {
+        T get() throws Exception;
+    }
+
+    private static final class Result {
+        private final String SCENARIO;
+        private final int    PULSES;
+        private final double MEAN;
+        private final double P50;
+        private final double P95;
+        private final double P99;
+        private final double MAX;
+        private final int    LAYOUTS;
+        private final int    NODES;
+
+        private Result(final String SCENARIO, final long[] DURATIONS, final int LAYOUTS, final int NODES) {
+            final long[] SORTED = DURATIONS.clone();
+            Arrays.sort(SORTED);
+            this.SCENARIO = SCENARIO;
+            this.PULSES   = SORTED.length;
+            this.MEAN     = Arrays.stream(SORTED).average().orElse(0) / 1e6;
+            this.P50      = percentile(SORTED, 0.5);
+            this.P95      = percentile(SORTED, 0.95);
+            this.P99      = percentile(SORTED, 0.99);
+            this.MAX      = SORTED.length == 0 ? 0 : SORTED[SORTED.length - 1] / 1e6;
+            this.LAYOUTS  = LAYOUTS;
+            this.NODES    = NODES;
+        }
+
+        private static double percentile(final long[] SORTED, final double P) {
+            if (SORTED.length == 0) { return 0; }
+            final int RANK = (int) Math.ceil(P * SORTED.length);
+            return SORTED[Math.max(0, RANK - 1)] / 1e6;
+        }
+
+        @Override public String toString() {
+            return String.format(Locale.US, "%-24s pulses %5d  mean %8.3f ms  p95 %8.3f ms  max %8.3f ms  layouts %5d  nodes %6d",
+                                 SCENARIO, PULSES, MEAN, P95, MAX, LAYOUTS, NODES);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures one layout pass of the ScalableContentPane of a world, i.e.
+ * computeScale() with the pref size of the country content. The size
+ * alternates so every pass has to rescale. The world is built and laid
+ * out on the FX application thread, a batch of passes per hand-off keeps
+ * the cost of the hand-off out of the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ScalableContentPaneBenchmark {
+    private static final int                 PASSES = 100;
+    @Param({ "0", "10000" })
+    private              int                 locationCount;
+    private              ScalableContentPane pane;
+    private              boolean             large;
+
+
+    @Setup public void setup() {
+        FxPlatform.start();
+        pane = FxPlatform.call(() -> {
+            final World WORLD = new WorldHighRes();
+            for (int i = 0 ; i < locationCount ; i++) {
+                WORLD.addLocation(new Location(i % 170 - 85, i % 360 - 180));
+            }
+            return WORLD.scalableContentPane;
+        });
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark @OperationsPerInvocation(PASSES) public ScalableContentPane computeScale() {
+        return FxPlatform.call(() -> {
+            for (int i = 0 ; i < PASSES ; i++) {
+                large = !large;
+                pane.resize(large ? 1009 : 800, large ? 665 : 527);
+                pane.layoutChildren();
+            }
+            return pane;
+        });
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.scene.shape.SVGPath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares SvgPathParser with the parsing done by JavaFX in SVGPath for
+ * the complete high and low resolution data sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SvgPathParserBenchmark {
+    private String[] highResPaths;
+    private String[] lowResPaths;
+
+
+    @Setup public void setup() {
+        FxPlatform.start();
+        highResPaths = pathsOf(GeometryStore.readPathStrings("countries-high-res.txt", CountryHighRes.values()));
+        lowResPaths  = pathsOf(GeometryStore.readPathStrings("countries-low-res.txt", CountryLowRes.values()));
+    }
+
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public double[][] parserHighRes() { return SvgPathParser.parse(highResPaths); }
+
+    @Benchmark public void parserHighResParallel(final Blackhole BLACKHOLE) {
+        Arrays.stream(highResPaths).parallel().map(SvgPathParser::parse).forEach(BLACKHOLE::consume);
+    }
+
+    @Benchmark public void svgPathHighRes(final Blackhole BLACKHOLE) { parseWithSvgPath(highResPaths, BLACKHOLE); }
+
+    @Benchmark public double[][] parserLowRes() { return SvgPathParser.parse(lowResPaths); }
+
+    @Benchmark public void svgPathLowRes(final Blackhole BLACKHOLE) { parseWithSvgPath(lowResPaths, BLACKHOLE); }
+
+
+    // ******************** Methods *******************************************
+    private static void parseWithSvgPath(final String[] PATHS, final Blackhole BLACKHOLE) {
+        for (String content : PATHS) {
+            SVGPath path = new SVGPath();
+            path.setContent(content);
+            // the content is parsed lazily when the geometry is needed
+            BLACKHOLE.consume(path.getLayoutBounds());
+        }
+    }
+
+    private static String[] pathsOf(final String[][] PATH_STRINGS) {
+        return Arrays.stream(PATH_STRINGS).flatMap(Arrays::stream).toArray(String[]::new);
+    }
+}
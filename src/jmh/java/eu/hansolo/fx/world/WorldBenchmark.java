@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the construction of a WorldHighRes and adding locations to it,
+ * one by one and in bulk. The world is not part of a scene, so the numbers
+ * do not contain layout or rendering. The world is built and locations
+ * are added on the FX application thread like in an application.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WorldBenchmark {
+
+    // ******************** Benchmarks ****************************************
+    @Benchmark public World construct(final Toolkit TOOLKIT) { return FxPlatform.call(WorldHighRes::new); }
+
+    @Benchmark public World addLocation(final Locations STATE) {
+        return FxPlatform.call(() -> {
+            for (Location location : STATE.locations) { STATE.world.addLocation(location); }
+            return STATE.world;
+        });
+    }
+
+    @Benchmark public World addLocations(final Locations STATE) {
+        return FxPlatform.call(() -> {
+            STATE.world.addLocations(STATE.locations);
+            return STATE.world;
+        });
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Construction does not depend on the number of locations, so it only
+     * needs the toolkit.
+     */
+    @State(Scope.Benchmark)
+    public static class Toolkit {
+        @Setup public void setup() { FxPlatform.start(); }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Locations {
+        @Param({ "1000", "10000", "100000", "1000000" })
+        private int        count;
+        private Location[] locations;
+        private World      world;
+
+        @Setup public void setup() {
+            FxPlatform.start();
+            final Random RND = new Random(42);
+            locations = new Location[count];
+            for (int i = 0 ; i < count ; i++) {
+                locations[i] = new Location("L" + i, RND.nextDouble() * 170 - 85, RND.nextDouble() * 360 - 180);
+            }
+            world = FxPlatform.call(WorldHighRes::new);
+        }
+
+        @TearDown(Level.Iteration) public void clear() { FxPlatform.run(world::clearLocations); }
+    }
+}
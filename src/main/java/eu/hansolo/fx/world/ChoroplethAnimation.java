@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+
+/**
+ * Animates the fill of the countries over the time steps of a dataset.
+ * The values are mapped to the indices of a fixed color palette for every
+ * time step once and off the FX thread, together with the list of
+ * countries that change between two consecutive steps. Playback then only
+ * touches the fills of these countries, optionally blending the colors
+ * between the steps by walking the palette. The fills go through the
+ * update scheduler of the world, each country at most once per pulse.
+ */
+public class ChoroplethAnimation {
+    private static final int            PALETTE_SIZE = 255;
+    private static final int            NO_DATA      = 255;
+    private        final World          WORLD;
+    private        final Country[]      COUNTRIES;
+    private        final Color[]        PALETTE;
+    private        final Color          NO_DATA_COLOR;
+    // palette index per country ordinal that has been scheduled and that should be shown
+    private        final int[]          APPLIED;
+    private        final int[]          TARGETS;
+    private        final int[]          CHANGED;
+    private        final boolean[]      MARKED;
+    private              int            changedCount;
+    private        final AnimationTimer TIMER;
+    private              byte[][]       frames;
+    private              int[][]        diffs;
+    private              int            currentStep;
+    private              Duration       stepDuration;
+    private              boolean        interpolate;
+    private              boolean        loop;
+    private              long           startTime;
+    private              int            startStep;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param WORLD         the world whose update scheduler sets the fills
+     * @param COUNTRIES     the countries indexed by their ordinal, e.g. CountryHighRes.values()
+     * @param MIN_COLOR     color of the smallest value of all time steps
+     * @param MAX_COLOR     color of the largest value of all time steps
+     * @param NO_DATA_COLOR color of countries without a value
+     */
+    public ChoroplethAnimation(final World WORLD, final Country[] COUNTRIES, final Color MIN_COLOR, final Color MAX_COLOR, final Color NO_DATA_COLOR) {
+        this.WORLD         = WORLD;
+        this.COUNTRIES     = COUNTRIES.clone();
+        this.PALETTE       = new Color[PALETTE_SIZE];
+        this.NO_DATA_COLOR = NO_DATA_COLOR;
+        this.APPLIED       = new int[COUNTRIES.length];
+        this.TARGETS       = new int[COUNTRIES.length];
+        this.CHANGED       = new int[COUNTRIES.length];
+        this.MARKED        = new boolean[COUNTRIES.length];
+        this.currentStep   = -1;
+        this.stepDuration  = Duration.seconds(1);
+        this.interpolate   = true;
+        this.loop          = false;
+        for (int i = 0 ; i < PALETTE_SIZE ; i++) { PALETTE[i] = MIN_COLOR.interpolate(MAX_COLOR, i / (double) (PALETTE_SIZE - 1)); }
+        Arrays.fill(APPLIED, -1);
+        Arrays.fill(TARGETS, -1);
+        TIMER = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(NOW); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Computes the color frames of all time steps of one indicator in the
+     * background, the returned future completes on the FX thread.
+     */
+    public CompletableFuture<ChoroplethAnimation> prepare(final CountryDataset DATASET, final int INDICATOR) {
+        final int STEPS = DATASET.getTimeSteps().size();
+        return prepare(STEPS, (step, values) -> {
+            final CountryDataset.Column COLUMN = DATASET.getColumn(INDICATOR, step);
+            for (int ordinal = 0 ; ordinal < COUNTRIES.length ; ordinal++) { values[ordinal] = COLUMN.get(COUNTRIES[ordinal]); }
+        });
+    }
+    /**
+     * Computes the color frames of the given values in the background, the
+     * returned future completes on the FX thread.
+     *
+     * @param VALUES values per time step and country ordinal, NaN for no data
+     */
+    public CompletableFuture<ChoroplethAnimation> prepare(final double[][] VALUES) {
+        return prepare(VALUES.length, (step, values) -> System.arraycopy(VALUES[step], 0, values, 0, COUNTRIES.length));
+    }
+    private CompletableFuture<ChoroplethAnimation> prepare(final int STEPS, final StepReader READER) {
+        if (STEPS < 1) { throw new IllegalArgumentException("At least one time step is needed"); }
+        stop();
+        return CompletableFuture.supplyAsync(() -> {
+            final double[][] VALUES = new double[STEPS][COUNTRIES.length];
+            for (int step = 0 ; step < STEPS ; step++) { READER.read(step, VALUES[step]); }
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (double[] values : VALUES) {
+                for (double value : values) {
+                    if (Double.isNaN(value)) { continue; }
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            final double MIN   = min;
+            final double RANGE = max > min ? max - min : 1;
+            final byte[][] FRAMES = new byte[STEPS][COUNTRIES.length];
+            IntStream.range(0, STEPS).parallel().forEach(step -> {
+                for (int ordinal = 0 ; ordinal < COUNTRIES.length ; ordinal++) {
+                    final double VALUE = VALUES[step][ordinal];
+                    FRAMES[step][ordinal] = (byte) (Double.isNaN(VALUE) ? NO_DATA : (int) Math.round((VALUE - MIN) / RANGE * (PALETTE_SIZE - 1)));
+                }
+            });
+            // countries that change from one step to the next, the last step leads back to the first
+            final int[][] DIFFS = new int[STEPS][];
+            IntStream.range(0, STEPS).parallel().forEach(step -> {
+                final byte[] FROM    = FRAMES[step];
+                final byte[] TO      = FRAMES[(step + 1) % STEPS];
+                final int[]  CHANGED = new int[COUNTRIES.length];
+                int          count   = 0;
+                for (int ordinal = 0 ; ordinal < COUNTRIES.length ; ordinal++) {
+                    if (FROM[ordinal] != TO[ordinal]) { CHANGED[count++] = ordinal; }
+                }
+                DIFFS[step] = Arrays.copyOf(CHANGED, count);
+            });
+            return new Frames(FRAMES, DIFFS);
+        }).thenApplyAsync(RESULT -> {
+            frames      = RESULT.FRAMES;
+            diffs       = RESULT.DIFFS;
+            currentStep = -1;
+            Arrays.fill(APPLIED, -1);
+            Arrays.fill(TARGETS, -1);
+            showStep(0);
+            return this;
+        }, Platform::runLater);
+    }
+
+    public boolean isPrepared() { return null != frames; }
+
+    public int getTimeSteps() { return null == frames ? 0 : frames.length; }
+
+    public int getCurrentStep() { return currentStep; }
+
+    public Duration getStepDuration() { return stepDuration; }
+    public void setStepDuration(final Duration DURATION) {
+        if (DURATION.lessThanOrEqualTo(Duration.ZERO)) { throw new IllegalArgumentException("Step duration must be positive"); }
+        stepDuration = DURATION;
+        restart();
+    }
+
+    /**
+     * If true the colors blend between two time steps, otherwise they
+     * switch at the start of each step.
+     */
+    public boolean isInterpolate() { return interpolate; }
+    public void setInterpolate(final boolean INTERPOLATE) { interpolate = INTERPOLATE; }
+
+    public boolean isLoop() { return loop; }
+    public void setLoop(final boolean LOOP) { loop = LOOP; }
+
+    /**
+     * Starts the playback at the current step, must be called on the FX thread.
+     */
+    public void play() {
+        if (!isPrepared()) { throw new IllegalStateException("prepare() has not completed yet"); }
+        if (currentStep >= frames.length - 1 && !loop) { showStep(0); }
+        startStep = Math.max(0, currentStep);
+        startTime = -1;
+        TIMER.start();
+    }
+    public void stop() { TIMER.stop(); }
+
+    /**
+     * Shows the given time step without blending, only the countries whose
+     * color differs from the current fill are touched.
+     */
+    public void showStep(final int STEP) {
+        if (!isPrepared()) { throw new IllegalStateException("prepare() has not completed yet"); }
+        setStep(STEP);
+        restart();
+        commit();
+    }
+
+    /**
+     * Sets the fills of all countries again, e.g. after the fill color of
+     * the world has been changed.
+     */
+    public void refresh() {
+        if (!isPrepared() || currentStep < 0) { return; }
+        Arrays.fill(APPLIED, -1);
+        Arrays.fill(TARGETS, -1);
+        final int STEP = currentStep;
+        currentStep = -1;
+        showStep(STEP);
+    }
+
+    private void restart() {
+        startStep = Math.max(0, currentStep);
+        startTime = -1;
+    }
+
+    private void pulse(final long NOW) {
+        if (startTime < 0) { startTime = NOW; }
+        final double POSITION = startStep + (NOW - startTime) / (stepDuration.toMillis() * 1_000_000);
+        int          step     = (int) POSITION;
+        if (step >= frames.length - 1 && !loop) {
+            advanceTo(frames.length - 1);
+            commit();
+            stop();
+            return;
+        }
+        step %= frames.length;
+        advanceTo(step);
+        if (interpolate) { blend(step, POSITION - Math.floor(POSITION)); }
+        // the step and the blend may set the same country, it is scheduled once with the latest color
+        commit();
+    }
+
+    private void advanceTo(final int STEP) {
+        // walk the steps so that each transition only touches its own diff
+        while (currentStep != STEP) { setStep((currentStep + 1) % frames.length); }
+    }
+
+    private void setStep(final int STEP) {
+        final byte[] FRAME = frames[STEP];
+        if (currentStep >= 0 && STEP == (currentStep + 1) % frames.length) {
+            for (int ordinal : diffs[currentStep]) { set(ordinal, FRAME[ordinal] & 0xFF); }
+        } else {
+            for (int ordinal = 0 ; ordinal < COUNTRIES.length ; ordinal++) { set(ordinal, FRAME[ordinal] & 0xFF); }
+        }
+        currentStep = STEP;
+    }
+
+    private void blend(final int STEP, final double FRACTION) {
+        final byte[] FROM = frames[STEP];
+        final byte[] TO   = frames[(STEP + 1) % frames.length];
+        for (int ordinal : diffs[STEP]) {
+            final int A = FROM[ordinal] & 0xFF;
+            final int B = TO[ordinal] & 0xFF;
+            if (NO_DATA == A || NO_DATA == B) {
+                set(ordinal, FRACTION < 0.5 ? A : B);
+            } else {
+                set(ordinal, (int) Math.round(A + (B - A) * FRACTION));
+            }
+        }
+    }
+
+    private void set(final int ORDINAL, final int INDEX) {
+        if (TARGETS[ORDINAL] == INDEX) { return; }
+        TARGETS[ORDINAL] = INDEX;
+        if (!MARKED[ORDINAL]) {
+            MARKED[ORDINAL]         = true;
+            CHANGED[changedCount++] = ORDINAL;
+        }
+    }
+
+    /**
+     * Schedules the fills of the countries whose color changed since the last commit.
+     */
+    private void commit() {
+        for (int i = 0 ; i < changedCount ; i++) {
+            final int ORDINAL = CHANGED[i];
+            final int INDEX   = TARGETS[ORDINAL];
+            MARKED[ORDINAL] = false;
+            if (APPLIED[ORDINAL] == INDEX) { continue; }
+            APPLIED[ORDINAL] = INDEX;
+            WORLD.scheduleCountryFill(COUNTRIES[ORDINAL], NO_DATA == INDEX ? NO_DATA_COLOR : PALETTE[INDEX]);
+        }
+        changedCount = 0;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Frames {
+        private final byte[][] FRAMES;
+        private final int[][]  DIFFS;
+
+        private Frames(final byte[][] FRAMES, final int[][] DIFFS) {
+            this.FRAMES = FRAMES;
+            this.DIFFS  = DIFFS;
+        }
+    }
+
+    @FunctionalInterface private interface StepReader {
+        void read(int STEP, double[] VALUES);
+    }
+}
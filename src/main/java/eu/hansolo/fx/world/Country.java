@@ -23,8 +23,14 @@ import java.util.List;
  * Created by hansolo on 19.11.16.
  */
 public interface Country {
+    String name();
+
+    int ordinal();
+
     List<CountryPath> getPaths();
 
+    double[][] getRings();
+
     ValueObject getValue();
     void setValue(final ValueObject VALUE);
 }
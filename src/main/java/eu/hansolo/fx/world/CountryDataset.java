@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Read only view on a memory mapped file with per country values of
+ * several indicators over several time steps, e.g. 20 years x 200
+ * indicators x 256 countries.
+ * The values are stored as doubles in columns of one indicator and one
+ * time step, rows are joined to the countries of a CountryRegistry by
+ * their ISO3 code once when the file is opened. Missing values are NaN.
+ *
+ * File layout (little endian):
+ * <pre>
+ * int     magic 'WFXD', int version, int rows, int indicators, int timeSteps
+ * rows       x 4 bytes ISO3 code (ASCII, padded with 0)
+ * indicators x (short length, UTF-8 name)
+ * timeSteps  x (short length, UTF-8 label)
+ * padding to a multiple of 8
+ * indicators x timeSteps x rows doubles
+ * </pre>
+ */
+public class CountryDataset {
+    private static final int             MAGIC   = 0x57465844;
+    private static final int             VERSION = 1;
+    private        final ByteBuffer      DATA;
+    private        final int             DATA_OFFSET;
+    private        final int             ROWS;
+    private        final String[]        ISO3;
+    private        final List<String>    INDICATORS;
+    private        final List<String>    TIME_STEPS;
+    private        final int[]           ROW_OF_ORDINAL;
+    private        final CountryRegistry REGISTRY;
+
+
+    // ******************** Constructors **************************************
+    private CountryDataset(final ByteBuffer BUFFER, final CountryRegistry REGISTRY) {
+        BUFFER.order(ByteOrder.LITTLE_ENDIAN);
+        if (BUFFER.remaining() < 8 || MAGIC != BUFFER.getInt() || VERSION != BUFFER.getInt()) { throw new IllegalArgumentException("Not a dataset file"); }
+        require(BUFFER, 12);
+        this.ROWS     = BUFFER.getInt();
+        this.REGISTRY = REGISTRY;
+        final int INDICATOR_COUNT = BUFFER.getInt();
+        final int TIME_STEP_COUNT = BUFFER.getInt();
+        if (ROWS < 0 || INDICATOR_COUNT < 0 || TIME_STEP_COUNT < 0) { throw new IllegalArgumentException("Dataset file is corrupt"); }
+
+        require(BUFFER, (long) ROWS * 4);
+        ISO3 = new String[ROWS];
+        final byte[] CODE = new byte[4];
+        for (int row = 0 ; row < ROWS ; row++) {
+            BUFFER.get(CODE);
+            int length = 0;
+            while (length < CODE.length && 0 != CODE[length]) { length++; }
+            ISO3[row] = new String(CODE, 0, length, StandardCharsets.US_ASCII);
+        }
+        INDICATORS  = Collections.unmodifiableList(Arrays.asList(readStrings(BUFFER, INDICATOR_COUNT)));
+        TIME_STEPS  = Collections.unmodifiableList(Arrays.asList(readStrings(BUFFER, TIME_STEP_COUNT)));
+        DATA_OFFSET = align(BUFFER.position());
+        DATA        = BUFFER;
+        if ((long) DATA_OFFSET + (long) INDICATOR_COUNT * TIME_STEP_COUNT * ROWS * Double.BYTES > BUFFER.capacity()) {
+            throw new IllegalArgumentException("Dataset file is truncated");
+        }
+
+        // join the rows to the countries once via the ISO3 index of the registry, lookups afterwards are array accesses
+        ROW_OF_ORDINAL = new int[REGISTRY.getCountries().size()];
+        Arrays.fill(ROW_OF_ORDINAL, -1);
+        for (int row = 0 ; row < ROWS ; row++) {
+            final Country COUNTRY = REGISTRY.fromIso3(ISO3[row]);
+            // the first row of a country wins
+            if (null != COUNTRY && ROW_OF_ORDINAL[COUNTRY.ordinal()] < 0) { ROW_OF_ORDINAL[COUNTRY.ordinal()] = row; }
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Memory maps the given dataset file, the values are not copied to the heap.
+     */
+    public static CountryDataset open(final Path FILE, final CountryRegistry REGISTRY) throws IOException {
+        try (FileChannel channel = FileChannel.open(FILE, StandardOpenOption.READ)) {
+            final MappedByteBuffer BUFFER = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new CountryDataset(BUFFER, REGISTRY);
+        }
+    }
+
+    /**
+     * Converts a CSV file with the columns iso3,indicator,timeStep,value
+     * (one value per line, optional header line) into a dataset file.
+     * Indicators and time steps keep the order of their first appearance.
+     */
+    public static void convertCsv(final Path CSV, final Path TARGET) throws IOException {
+        final Map<String, Integer> ROWS       = new LinkedHashMap<>();
+        final Map<String, Integer> INDICATORS = new LinkedHashMap<>();
+        final Map<String, Integer> TIME_STEPS = new LinkedHashMap<>();
+        // row, indicator and time step of every value
+        int[]                      keys       = new int[3 * 1024];
+        double[]                   values     = new double[1024];
+        int                        count      = 0;
+        try (BufferedReader reader = Files.newBufferedReader(CSV, StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                final String[] FIELDS = line.split(",", -1);
+                if (FIELDS.length < 4 || FIELDS[0].trim().length() != 3) { continue; }
+                final double VALUE;
+                try {
+                    VALUE = FIELDS[3].trim().isEmpty() ? Double.NaN : Double.parseDouble(FIELDS[3].trim());
+                } catch (NumberFormatException e) {
+                    continue; // header line
+                }
+                final int ROW       = ROWS.computeIfAbsent(FIELDS[0].trim().toUpperCase(), k -> ROWS.size());
+                final int INDICATOR = INDICATORS.computeIfAbsent(FIELDS[1].trim(), k -> INDICATORS.size());
+                final int TIME_STEP = TIME_STEPS.computeIfAbsent(FIELDS[2].trim(), k -> TIME_STEPS.size());
+                if (count == values.length) {
+                    keys   = Arrays.copyOf(keys, 6 * count);
+                    values = Arrays.copyOf(values, 2 * count);
+                }
+                keys[3 * count]     = ROW;
+                keys[3 * count + 1] = INDICATOR;
+                keys[3 * count + 2] = TIME_STEP;
+                values[count++]     = VALUE;
+            }
+        }
+
+        final int       ROW_COUNT = ROWS.size();
+        final double[]  DATA      = new double[INDICATORS.size() * TIME_STEPS.size() * ROW_COUNT];
+        Arrays.fill(DATA, Double.NaN);
+        for (int i = 0 ; i < count ; i++) {
+            DATA[(keys[3 * i + 1] * TIME_STEPS.size() + keys[3 * i + 2]) * ROW_COUNT + keys[3 * i]] = values[i];
+        }
+        write(TARGET, ROWS.keySet().toArray(new String[0]), INDICATORS.keySet().toArray(new String[0]),
+              TIME_STEPS.keySet().toArray(new String[0]), DATA);
+    }
+
+    /**
+     * Writes a dataset file, DATA holds the values ordered by indicator,
+     * time step and row, i.e. DATA[(indicator * timeSteps + timeStep) * rows + row].
+     */
+    public static void write(final Path TARGET, final String[] ISO3_CODES, final String[] INDICATORS, final String[] TIME_STEPS, final double[] DATA) throws IOException {
+        if (DATA.length != ISO3_CODES.length * INDICATORS.length * TIME_STEPS.length) { throw new IllegalArgumentException("Wrong number of values"); }
+        int headerSize = 20 + ISO3_CODES.length * 4;
+        for (String indicator : INDICATORS) { headerSize += 2 + indicator.getBytes(StandardCharsets.UTF_8).length; }
+        for (String timeStep : TIME_STEPS)  { headerSize += 2 + timeStep.getBytes(StandardCharsets.UTF_8).length; }
+        final ByteBuffer HEADER = ByteBuffer.allocate(align(headerSize)).order(ByteOrder.LITTLE_ENDIAN);
+        HEADER.putInt(MAGIC).putInt(VERSION).putInt(ISO3_CODES.length).putInt(INDICATORS.length).putInt(TIME_STEPS.length);
+        for (String code : ISO3_CODES) { HEADER.put(Arrays.copyOf(code.getBytes(StandardCharsets.US_ASCII), 4)); }
+        for (String indicator : INDICATORS) { writeString(HEADER, indicator); }
+        for (String timeStep : TIME_STEPS)  { writeString(HEADER, timeStep); }
+        HEADER.rewind();
+
+        try (FileChannel channel = FileChannel.open(TARGET, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (HEADER.hasRemaining()) { channel.write(HEADER); }
+            final ByteBuffer VALUES = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            for (double value : DATA) {
+                if (!VALUES.hasRemaining()) { flush(channel, VALUES); }
+                VALUES.putDouble(value);
+            }
+            flush(channel, VALUES);
+        }
+    }
+
+    public CountryRegistry getRegistry() { return REGISTRY; }
+
+    public List<String> getIndicators() { return INDICATORS; }
+    public int indexOfIndicator(final String INDICATOR) { return INDICATORS.indexOf(INDICATOR); }
+
+    public List<String> getTimeSteps() { return TIME_STEPS; }
+    public int indexOfTimeStep(final String TIME_STEP) { return TIME_STEPS.indexOf(TIME_STEP); }
+
+    /**
+     * @return true if the dataset has a row for the given country
+     */
+    public boolean contains(final Country COUNTRY) { return ROW_OF_ORDINAL[COUNTRY.ordinal()] >= 0; }
+
+    /**
+     * Reads one value straight from the mapped file without allocating.
+     *
+     * @return the value or NaN if the dataset has no value for the country
+     */
+    public double getValue(final Country COUNTRY, final int INDICATOR, final int TIME_STEP) {
+        final int ROW = ROW_OF_ORDINAL[COUNTRY.ordinal()];
+        if (ROW < 0) { return Double.NaN; }
+        return DATA.getDouble(offset(INDICATOR, TIME_STEP) + ROW * Double.BYTES);
+    }
+
+    /**
+     * Returns a view on the values of one indicator at one time step, the
+     * view shares the mapped memory with the dataset.
+     */
+    public Column getColumn(final int INDICATOR, final int TIME_STEP) {
+        final ByteBuffer SLICE = DATA.duplicate();
+        SLICE.position(offset(INDICATOR, TIME_STEP));
+        SLICE.limit(SLICE.position() + ROWS * Double.BYTES);
+        return new Column(SLICE.slice().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer());
+    }
+    public Column getColumn(final String INDICATOR, final String TIME_STEP) {
+        final int INDICATOR_INDEX = indexOfIndicator(INDICATOR);
+        final int TIME_STEP_INDEX = indexOfTimeStep(TIME_STEP);
+        if (INDICATOR_INDEX < 0 || TIME_STEP_INDEX < 0) { throw new IllegalArgumentException("Unknown indicator or time step " + INDICATOR + "/" + TIME_STEP); }
+        return getColumn(INDICATOR_INDEX, TIME_STEP_INDEX);
+    }
+
+    private int offset(final int INDICATOR, final int TIME_STEP) {
+        if (INDICATOR < 0 || INDICATOR >= INDICATORS.size()) { throw new IndexOutOfBoundsException("Indicator " + INDICATOR); }
+        if (TIME_STEP < 0 || TIME_STEP >= TIME_STEPS.size()) { throw new IndexOutOfBoundsException("Time step " + TIME_STEP); }
+        return DATA_OFFSET + (INDICATOR * TIME_STEPS.size() + TIME_STEP) * ROWS * Double.BYTES;
+    }
+
+    private static String[] readStrings(final ByteBuffer BUFFER, final int COUNT) {
+        final String[] STRINGS = new String[COUNT];
+        for (int i = 0 ; i < COUNT ; i++) {
+            require(BUFFER, 2);
+            final byte[] BYTES = new byte[BUFFER.getShort() & 0xFFFF];
+            require(BUFFER, BYTES.length);
+            BUFFER.get(BYTES);
+            STRINGS[i] = new String(BYTES, StandardCharsets.UTF_8);
+        }
+        return STRINGS;
+    }
+
+    private static void require(final ByteBuffer BUFFER, final long BYTES) {
+        if (BUFFER.remaining() < BYTES) { throw new IllegalArgumentException("Dataset file is truncated"); }
+    }
+
+    private static void writeString(final ByteBuffer BUFFER, final String STRING) {
+        final byte[] BYTES = STRING.getBytes(StandardCharsets.UTF_8);
+        if (BYTES.length > 0xFFFF) { throw new IllegalArgumentException("Name too long: " + STRING); }
+        BUFFER.putShort((short) BYTES.length).put(BYTES);
+    }
+
+    private static void flush(final FileChannel CHANNEL, final ByteBuffer BUFFER) throws IOException {
+        BUFFER.flip();
+        while (BUFFER.hasRemaining()) { CHANNEL.write(BUFFER); }
+        BUFFER.clear();
+    }
+
+    private static int align(final int POSITION) { return (POSITION + 7) & ~7; }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * The values of one indicator at one time step, indexed by country.
+     */
+    public class Column {
+        private final DoubleBuffer VALUES;
+
+        private Column(final DoubleBuffer VALUES) { this.VALUES = VALUES; }
+
+        /**
+         * @return the value of the given country or NaN if there is none
+         */
+        public double get(final Country COUNTRY) {
+            final int ROW = ROW_OF_ORDINAL[COUNTRY.ordinal()];
+            return ROW < 0 ? Double.NaN : VALUES.get(ROW);
+        }
+
+        /**
+         * Copies the values into the given array indexed by country ordinal,
+         * countries without a value get NaN.
+         */
+        public double[] toArray(final double[] TARGET) {
+            for (int ordinal = 0 ; ordinal < ROW_OF_ORDINAL.length ; ordinal++) {
+                TARGET[ordinal] = ROW_OF_ORDINAL[ordinal] < 0 ? Double.NaN : VALUES.get(ROW_OF_ORDINAL[ordinal]);
+            }
+            return TARGET;
+        }
+
+        /**
+         * @return min and max of all values that are not NaN as [min, max]
+         */
+        public double[] range() {
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int row = 0 ; row < ROWS ; row++) {
+                final double VALUE = VALUES.get(row);
+                if (Double.isNaN(VALUE)) { continue; }
+                if (Double.isNaN(min) || VALUE < min) { min = VALUE; }
+                if (Double.isNaN(max) || VALUE > max) { max = VALUE; }
+            }
+            return new double[] { min, max };
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.geometry.Bounds;
+import javafx.scene.CacheHint;
+import javafx.scene.Group;
+
+
+/**
+ * Holds the country paths in a grid of cached tiles. Each tile is rendered
+ * into a bitmap once and reused until one of its paths changes, so e.g.
+ * changing the fill of a country only re-renders the tile that contains
+ * the center of that country instead of the whole map.
+ * A tile is only cached as long as its bitmap stays below MAX_CACHE_SIZE
+ * pixels in width and height at the current screen scale.
+ */
+public class CountryLayer extends Group {
+    private static final int     COLUMNS        = 8;
+    private static final int     ROWS           = 4;
+    // most hardware pipelines can not create larger textures
+    private static final double  MAX_CACHE_SIZE = 4096;
+    private        final double  tileWidth;
+    private        final double  tileHeight;
+    private        final Group[] tiles;
+    private              boolean interactive;
+    private              double  screenScale;
+
+
+    // ******************** Constructors **************************************
+    public CountryLayer(final double WIDTH, final double HEIGHT) {
+        tileWidth   = WIDTH / COLUMNS;
+        tileHeight  = HEIGHT / ROWS;
+        tiles       = new Group[COLUMNS * ROWS];
+        screenScale = 1;
+        for (int i = 0 ; i < tiles.length ; i++) {
+            Group tile = new Group();
+            tile.setCache(true);
+            tile.setCacheHint(CacheHint.QUALITY);
+            tiles[i] = tile;
+        }
+        getChildren().setAll(tiles);
+    }
+
+
+    // ******************** Methods *******************************************
+    public void add(final CountryPath PATH) {
+        final Bounds BOUNDS = PATH.getLayoutBounds();
+        final int    COLUMN = clamp((int) ((BOUNDS.getMinX() + BOUNDS.getWidth() * 0.5) / tileWidth), COLUMNS);
+        final int    ROW    = clamp((int) ((BOUNDS.getMinY() + BOUNDS.getHeight() * 0.5) / tileHeight), ROWS);
+        tiles[ROW * COLUMNS + COLUMN].getChildren().add(PATH);
+    }
+
+    /**
+     * Enables the cache of the tiles whose bitmap would not exceed
+     * MAX_CACHE_SIZE at the given scale and disables it for the others.
+     * The cache of a tile covers the complete bounds of its paths, at high
+     * zoom the tile that holds e.g. Russia would be rasterized as a whole
+     * although only a small part of it is visible. Ignored while interactive,
+     * the cached bitmaps are only scaled then.
+     *
+     * @param SCALE the number of screen pixels per map unit
+     */
+    public void setScreenScale(final double SCALE) {
+        screenScale = SCALE;
+        if (interactive) { return; }
+        for (Group tile : tiles) {
+            final Bounds BOUNDS = tile.getBoundsInLocal();
+            tile.setCache(Math.max(BOUNDS.getWidth(), BOUNDS.getHeight()) * SCALE <= MAX_CACHE_SIZE);
+        }
+    }
+
+    /**
+     * @return the number of tiles that are rendered without a cache because their bitmap would be too large
+     */
+    public int getUncachedTileCount() {
+        int count = 0;
+        for (Group tile : tiles) { if (!tile.isCache()) { count++; } }
+        return count;
+    }
+
+    public boolean isInteractive() { return interactive; }
+    /**
+     * While interactive the cached bitmaps of the tiles are only scaled when
+     * the map is zoomed or resized. Switching back re-renders the tiles at the
+     * current scale the next time they are drawn.
+     *
+     * @param INTERACTIVE true while the user zooms, pans or resizes
+     */
+    public void setInteractive(final boolean INTERACTIVE) {
+        if (INTERACTIVE == interactive) { return; }
+        interactive = INTERACTIVE;
+        for (Group tile : tiles) { tile.setCacheHint(INTERACTIVE ? CacheHint.SCALE : CacheHint.QUALITY); }
+        if (!INTERACTIVE) { setScreenScale(screenScale); }
+    }
+
+    private static int clamp(final int INDEX, final int COUNT) { return INDEX < 0 ? 0 : (INDEX >= COUNT ? COUNT - 1 : INDEX); }
+}
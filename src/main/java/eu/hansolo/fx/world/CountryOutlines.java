@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+
+/**
+ * Rewrites the content of the country paths for the current scale and
+ * viewport. Rings below the small feature threshold are left out or drawn
+ * as a dot, and at high zoom all rings are clipped to the visible part of
+ * the map (Sutherland-Hodgman) so the off-screen parts of large countries
+ * are not tessellated and stroked anymore. The clip rectangle is snapped
+ * to a grid of screen tiles, every path is clipped to the tiles it shares
+ * with it and the rewritten contents are cached per path and tile range,
+ * so panning back and forth reuses them. Paths are rewritten as a whole,
+ * clipping every tile on its own would stroke the tile borders. The
+ * full contents are rebuilt from the GeometryStore once neither is needed.
+ * Without dots a path whose rings are all culled is hidden instead of
+ * rewritten, so it is neither rendered nor hit tested.
+ * The content of the paths hidden by the viewport culling is released and
+ * rebuilt when they are shown again, so only the visible paths hold their
+ * geometry as a string and as the parsed shape of the SVGPath.
+ */
+final class CountryOutlines {
+    private static final int                            CACHE_SIZE = 512;
+    private static final double                         TILE_SIZE  = 256;
+    private        final Map<String, List<CountryPath>> COUNTRY_PATHS;
+    private        final Map<CountryPath, Key>          APPLIED;
+    private        final Map<Key, String>               CACHE;
+    // paths that are hidden because all their rings are culled and the number of these rings
+    private        final Map<CountryPath, Integer>      HIDDEN;
+    // paths whose content has been released because they are outside of the viewport
+    private        final Set<CountryPath>               RELEASED;
+    private        final Predicate<Node>                IN_VIEW;
+    private        final Consumer<Country>              ON_CHANGE;
+    private              double                         minFeatureArea;
+    private              boolean                        dots;
+    private              double                         clippingScale;
+    private              int                            level;
+    private              int[]                          clip;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param IN_VIEW   tells whether the viewport culling of the world shows the given path
+     * @param ON_CHANGE called with the country whenever one of its paths has been rewritten, hidden or shown
+     */
+    CountryOutlines(final Map<String, List<CountryPath>> COUNTRY_PATHS, final Predicate<Node> IN_VIEW, final Consumer<Country> ON_CHANGE) {
+        this.COUNTRY_PATHS = COUNTRY_PATHS;
+        this.IN_VIEW       = IN_VIEW;
+        this.ON_CHANGE     = ON_CHANGE;
+        APPLIED            = new IdentityHashMap<>();
+        HIDDEN             = new IdentityHashMap<>();
+        RELEASED           = Collections.newSetFromMap(new IdentityHashMap<>());
+        CACHE              = new LinkedHashMap<Key, String>(64, 0.75f, true) {
+            @Override protected boolean removeEldestEntry(final Map.Entry<Key, String> ELDEST) { return size() > CACHE_SIZE; }
+        };
+        minFeatureArea     = 1;
+        dots               = true;
+        clippingScale      = 4;
+        level              = Integer.MIN_VALUE;
+    }
+
+
+    // ******************** Methods *******************************************
+    double getMinFeatureArea() { return minFeatureArea; }
+    void setMinFeatureArea(final double SQUARE_PIXELS) {
+        minFeatureArea = Math.max(0, SQUARE_PIXELS);
+        level          = Integer.MIN_VALUE;
+    }
+
+    boolean isDots() { return dots; }
+    void setDots(final boolean DOTS) {
+        dots  = DOTS;
+        level = Integer.MIN_VALUE;
+        // culled rings are keyed by their count, which does not tell dots from skipped rings
+        CACHE.clear();
+    }
+
+    double getClippingScale() { return clippingScale; }
+    void setClippingScale(final double SCALE) {
+        clippingScale = Math.max(0, SCALE);
+        clip          = null;
+        level         = Integer.MIN_VALUE;
+    }
+
+    boolean isEnabled() { return minFeatureArea > 0 || clippingScale > 0 || !APPLIED.isEmpty() || !HIDDEN.isEmpty(); }
+
+    /**
+     * @return true if all rings of the given path are culled and it must not be shown
+     */
+    boolean isHidden(final CountryPath PATH) { return HIDDEN.containsKey(PATH); }
+
+    int getCulledRingCount() {
+        int count = 0;
+        for (Key key : APPLIED.values()) { if (!HIDDEN.containsKey(key.PATH)) { count += key.CULLED; } }
+        for (int culled : HIDDEN.values()) { count += culled; }
+        return count;
+    }
+
+    int getClippedPathCount() {
+        int count = 0;
+        for (Key key : APPLIED.values()) { if (key.isClipped()) { count++; } }
+        return count;
+    }
+
+    /**
+     * Updates the country paths for the given screen scale and visible part
+     * of the map. Nothing is changed while the user interacts, the map is
+     * rendered from a cached bitmap then which every rewrite would
+     * invalidate. The paths follow once the interaction ended, until then
+     * the parts of the clipped countries beyond the margin stay empty.
+     */
+    void update(final double SCREEN_SCALE, final Bounds VISIBLE_BOUNDS, final boolean INTERACTING) {
+        if (INTERACTING || null == VISIBLE_BOUNDS || SCREEN_SCALE <= 0) { return; }
+        final boolean CULL = minFeatureArea > 0;
+        final boolean CLIP = clippingScale > 0 && SCREEN_SCALE >= clippingScale;
+        if (!CULL && !CLIP) {
+            restore();
+            return;
+        }
+
+        // the scale is snapped to half octaves, the upper end of the step is used so a ring is only
+        // culled if it is below the threshold for every scale of the step, the tiles are sized per step
+        final int    LEVEL    = (int) Math.floor(2 * Math.log(SCREEN_SCALE) / Math.log(2));
+        final double SCALE    = Math.pow(2, (LEVEL + 1) * 0.5);
+        final double MIN_AREA = CULL ? minFeatureArea / (SCALE * SCALE) : 0;
+        final double TILE     = TILE_SIZE / SCALE;
+        final int[]  TILES    = CLIP ? snapToTiles(VISIBLE_BOUNDS, TILE) : null;
+        if (LEVEL == level && Arrays.equals(TILES, clip)) { return; }
+        level = LEVEL;
+        clip  = TILES;
+        final Bounds CLIP_BOUNDS = CLIP ? toBounds(TILES, TILE) : null;
+
+        for (List<CountryPath> paths : COUNTRY_PATHS.values()) {
+            if (paths.isEmpty() || null == paths.get(0).getCountry()) { continue; }
+            final Country       COUNTRY = paths.get(0).getCountry();
+            final GeometryStore STORE   = GeometryStore.of(COUNTRY);
+            final int[]         RINGS   = new int[paths.size()];
+            final int[]         CULLED  = new int[paths.size()];
+            final boolean[]     CLIPPED = new boolean[paths.size()];
+            final boolean[]     VISIBLE = new boolean[paths.size()];
+            final double[]      BOUNDS  = new double[paths.size() * 4];
+            for (int r = 0 ; r < STORE.getRingCount(COUNTRY) ; r++) {
+                final int      P = STORE.getPathIndex(COUNTRY, r);
+                final double[] B = STORE.getRingBounds(COUNTRY, r);
+                VISIBLE[P] |= null == CLIP_BOUNDS || CLIP_BOUNDS.intersects(B[0], B[1], B[2] - B[0], B[3] - B[1]);
+                BOUNDS[P * 4]     = 0 == RINGS[P] ? B[0] : Math.min(BOUNDS[P * 4], B[0]);
+                BOUNDS[P * 4 + 1] = 0 == RINGS[P] ? B[1] : Math.min(BOUNDS[P * 4 + 1], B[1]);
+                BOUNDS[P * 4 + 2] = 0 == RINGS[P] ? B[2] : Math.max(BOUNDS[P * 4 + 2], B[2]);
+                BOUNDS[P * 4 + 3] = 0 == RINGS[P] ? B[3] : Math.max(BOUNDS[P * 4 + 3], B[3]);
+                RINGS[P]++;
+                if (STORE.getArea(COUNTRY, r) < MIN_AREA) {
+                    CULLED[P]++;
+                } else if (null != CLIP_BOUNDS && !contains(CLIP_BOUNDS, B)) {
+                    CLIPPED[P] = true;
+                }
+            }
+            for (int p = 0 ; p < paths.size() ; p++) {
+                final CountryPath PATH = paths.get(p);
+                // paths outside of the clip rectangle are not visible, whatever they contain
+                if (!VISIBLE[p]) { continue; }
+                // nothing would be left of the path, the content stays as it is until it is shown again
+                if (!dots && CULLED[p] == RINGS[p]) {
+                    hide(PATH, CULLED[p]);
+                    continue;
+                }
+                unhide(PATH);
+                if (0 == CULLED[p] && !CLIPPED[p]) {
+                    if (null != APPLIED.remove(PATH)) { setContent(PATH); }
+                    continue;
+                }
+                // the rings below the threshold only grow with it, so the count identifies them, dots are sized per level.
+                // A clipped path is clipped to the tiles it shares with the clip rectangle, panning within them keeps it.
+                final int[] PATH_TILES = CLIPPED[p] ? intersection(TILES, BOUNDS, p * 4, TILE) : null;
+                final Key   KEY        = new Key(PATH, CULLED[p], (dots && CULLED[p] > 0) || CLIPPED[p] ? LEVEL : 0, PATH_TILES,
+                                                 p, MIN_AREA, 1 / SCALE, CLIPPED[p] ? toBounds(PATH_TILES, TILE) : null);
+                if (KEY.equals(APPLIED.get(PATH))) { continue; }
+                APPLIED.put(PATH, KEY);
+                setContent(PATH);
+            }
+        }
+    }
+
+    void restore() {
+        for (CountryPath path : HIDDEN.keySet().toArray(new CountryPath[0])) { unhide(path); }
+        final CountryPath[] REWRITTEN = APPLIED.keySet().toArray(new CountryPath[0]);
+        APPLIED.clear();
+        for (CountryPath path : REWRITTEN) { setContent(path); }
+        level = Integer.MIN_VALUE;
+        clip  = null;
+    }
+
+    /**
+     * Drops the content of the given path, it is outside of the viewport.
+     */
+    void release(final CountryPath PATH) {
+        if (null == PATH.getCountry() || !RELEASED.add(PATH)) { return; }
+        PATH.setContent("");
+        ON_CHANGE.accept(PATH.getCountry());
+    }
+
+    /**
+     * Rebuilds the content of the given path if it has been released.
+     */
+    void reload(final CountryPath PATH) {
+        if (RELEASED.remove(PATH)) { setContent(PATH); }
+    }
+
+    /**
+     * Sets the content the given path needs for the applied scale and clip
+     * rectangle, released paths get it once they are reloaded.
+     */
+    private void setContent(final CountryPath PATH) {
+        if (RELEASED.contains(PATH)) { return; }
+        final Country       COUNTRY = PATH.getCountry();
+        final GeometryStore STORE   = GeometryStore.of(COUNTRY);
+        final Key           KEY     = APPLIED.get(PATH);
+        if (null == KEY) {
+            PATH.setContent(STORE.getContent(COUNTRY, COUNTRY.getPaths().indexOf(PATH)));
+        } else {
+            String content = CACHE.get(KEY);
+            if (null == content) {
+                content = toContent(STORE, COUNTRY, KEY.PATH_INDEX, KEY.MIN_AREA, KEY.DOT_SIZE, KEY.CLIP);
+                CACHE.put(KEY, content);
+            }
+            PATH.setContent(content);
+        }
+        ON_CHANGE.accept(COUNTRY);
+    }
+
+    private void hide(final CountryPath PATH, final int CULLED) {
+        if (null != HIDDEN.put(PATH, CULLED)) { return; }
+        PATH.setVisible(false);
+        ON_CHANGE.accept(PATH.getCountry());
+    }
+
+    private void unhide(final CountryPath PATH) {
+        if (null == HIDDEN.remove(PATH)) { return; }
+        PATH.setVisible(IN_VIEW.test(PATH));
+        ON_CHANGE.accept(PATH.getCountry());
+    }
+
+    private String toContent(final GeometryStore STORE, final Country COUNTRY, final int PATH_INDEX, final double MIN_AREA, final double DOT_SIZE, final Bounds CLIP) {
+        final StringBuilder CONTENT = new StringBuilder();
+        double[]            ring    = null;
+        for (int r = 0 ; r < STORE.getRingCount(COUNTRY) ; r++) {
+            if (STORE.getPathIndex(COUNTRY, r) != PATH_INDEX) { continue; }
+            final double[] B = STORE.getRingBounds(COUNTRY, r);
+            if (STORE.getArea(COUNTRY, r) < MIN_AREA) {
+                final double X = (B[0] + B[2] - DOT_SIZE) * 0.5;
+                final double Y = (B[1] + B[3] - DOT_SIZE) * 0.5;
+                if (!dots || (null != CLIP && !CLIP.contains(X, Y))) { continue; }
+                append(CONTENT.append('M'), X, Y);
+                CONTENT.append('h').append(DOT_SIZE).append('v').append(DOT_SIZE).append('h').append(-DOT_SIZE).append('Z');
+                continue;
+            }
+            if (null != CLIP && !CLIP.intersects(B[0], B[1], B[2] - B[0], B[3] - B[1])) { continue; }
+
+            int length = 2 * STORE.getPointCount(COUNTRY, r);
+            ring = STORE.getRing(COUNTRY, r, ring);
+            double[] points = ring;
+            if (null != CLIP && !contains(CLIP, B)) {
+                points = clipRing(ring, length, CLIP);
+                length = points.length;
+                if (length < 6) { continue; }
+            }
+            for (int i = 0 ; i < length ; i += 2) { append(CONTENT.append(0 == i ? 'M' : 'L'), points[i], points[i + 1]); }
+            CONTENT.append('Z');
+        }
+        return CONTENT.toString();
+    }
+
+    /**
+     * Sutherland-Hodgman clipping of the given ring against the four edges
+     * of the clip rectangle. Concave rings may end up with edges running
+     * along the clip rectangle, which is outside the visible area anyway.
+     */
+    static double[] clipRing(final double[] RING, final int LENGTH, final Bounds CLIP) {
+        double[] points = RING;
+        int      length = LENGTH;
+        for (int edge = 0 ; edge < 4 && length > 0 ; edge++) {
+            final double[] RESULT = new double[2 * length];
+            int            size   = 0;
+            for (int i = 0 ; i < length ; i += 2) {
+                final int     J          = (i + length - 2) % length;
+                final double  PX         = points[J];
+                final double  PY         = points[J + 1];
+                final double  CX         = points[i];
+                final double  CY         = points[i + 1];
+                final boolean CURRENT_IN = inside(edge, CX, CY, CLIP);
+                if (CURRENT_IN != inside(edge, PX, PY, CLIP)) {
+                    // the edge is crossed, add the intersection
+                    final double T;
+                    if (edge < 2) {
+                        final double X = 0 == edge ? CLIP.getMinX() : CLIP.getMaxX();
+                        T = (X - PX) / (CX - PX);
+                    } else {
+                        final double Y = 2 == edge ? CLIP.getMinY() : CLIP.getMaxY();
+                        T = (Y - PY) / (CY - PY);
+                    }
+                    RESULT[size++] = PX + T * (CX - PX);
+                    RESULT[size++] = PY + T * (CY - PY);
+                }
+                if (CURRENT_IN) {
+                    RESULT[size++] = CX;
+                    RESULT[size++] = CY;
+                }
+            }
+            points = RESULT;
+            length = size;
+        }
+        return points.length == length ? points : Arrays.copyOf(points, length);
+    }
+
+    private static boolean inside(final int EDGE, final double X, final double Y, final Bounds CLIP) {
+        switch (EDGE) {
+            case 0 : return X >= CLIP.getMinX();
+            case 1 : return X <= CLIP.getMaxX();
+            case 2 : return Y >= CLIP.getMinY();
+            default: return Y <= CLIP.getMaxY();
+        }
+    }
+
+    /**
+     * @return the range of tiles [minColumn, minRow, maxColumn, maxRow) that covers the given bounds
+     */
+    private static int[] snapToTiles(final Bounds BOUNDS, final double TILE) {
+        // one extra tile on each side, panning by less than a tile stays inside the clip rectangle
+        return new int[] { (int) Math.floor(BOUNDS.getMinX() / TILE) - 1, (int) Math.floor(BOUNDS.getMinY() / TILE) - 1,
+                           (int) Math.ceil(BOUNDS.getMaxX() / TILE) + 1, (int) Math.ceil(BOUNDS.getMaxY() / TILE) + 1 };
+    }
+
+    private static int[] intersection(final int[] TILES, final double[] BOUNDS, final int OFFSET, final double TILE) {
+        return new int[] { Math.max(TILES[0], (int) Math.floor(BOUNDS[OFFSET] / TILE)), Math.max(TILES[1], (int) Math.floor(BOUNDS[OFFSET + 1] / TILE)),
+                           Math.min(TILES[2], (int) Math.ceil(BOUNDS[OFFSET + 2] / TILE)), Math.min(TILES[3], (int) Math.ceil(BOUNDS[OFFSET + 3] / TILE)) };
+    }
+
+    private static Bounds toBounds(final int[] TILES, final double TILE) {
+        return new BoundingBox(TILES[0] * TILE, TILES[1] * TILE, (TILES[2] - TILES[0]) * TILE, (TILES[3] - TILES[1]) * TILE);
+    }
+
+    private static boolean contains(final Bounds OUTER, final double[] INNER) {
+        return INNER[0] >= OUTER.getMinX() && INNER[1] >= OUTER.getMinY() && INNER[2] <= OUTER.getMaxX() && INNER[3] <= OUTER.getMaxY();
+    }
+
+    private static void append(final StringBuilder CONTENT, final double X, final double Y) {
+        CONTENT.append(Math.round(X * 1000) / 1000.0).append(',').append(Math.round(Y * 1000) / 1000.0);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Key {
+        private final CountryPath PATH;
+        private final int         CULLED;
+        private final int         LEVEL;
+        private final int[]       TILES;
+        // what the content is built from, identified by the fields above
+        private final int         PATH_INDEX;
+        private final double      MIN_AREA;
+        private final double      DOT_SIZE;
+        private final Bounds      CLIP;
+
+
+        Key(final CountryPath PATH, final int CULLED, final int LEVEL, final int[] TILES,
+            final int PATH_INDEX, final double MIN_AREA, final double DOT_SIZE, final Bounds CLIP) {
+            this.PATH       = PATH;
+            this.CULLED     = CULLED;
+            this.LEVEL      = LEVEL;
+            this.TILES      = TILES;
+            this.PATH_INDEX = PATH_INDEX;
+            this.MIN_AREA   = MIN_AREA;
+            this.DOT_SIZE   = DOT_SIZE;
+            this.CLIP       = CLIP;
+        }
+
+
+        boolean isClipped() { return null != TILES; }
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (!(OBJECT instanceof Key)) { return false; }
+            final Key OTHER = (Key) OBJECT;
+            return PATH == OTHER.PATH && CULLED == OTHER.CULLED && LEVEL == OTHER.LEVEL && Arrays.equals(TILES, OTHER.TILES);
+        }
+
+        @Override public int hashCode() { return 31 * Objects.hash(System.identityHashCode(PATH), CULLED, LEVEL) + Arrays.hashCode(TILES); }
+    }
+}
@@ -16,7 +16,6 @@
 
 package eu.hansolo.fx.world;
 
-import javafx.scene.control.Tooltip;
 import javafx.scene.shape.SVGPath;
 
 import java.util.Locale;
@@ -27,24 +26,27 @@ import java.util.Locale;
  */
 public class CountryPath extends SVGPath {
     private final String  NAME;
-    private final Locale  LOCALE;
-    private final Tooltip TOOLTIP;
+    private final Country COUNTRY;
 
 
     // ******************** Constructors **************************************
     public CountryPath(final String NAME) {
+        this(NAME, null);
+    }
+    public CountryPath(final String NAME, final Country COUNTRY) {
         super();
         this.NAME    = NAME;
-        this.LOCALE  = new Locale("", NAME);
-        this.TOOLTIP = new Tooltip(LOCALE.getDisplayCountry());
-        Tooltip.install(this, TOOLTIP);
+        this.COUNTRY = COUNTRY;
     }
 
 
     // ******************** Methods *******************************************
     public String getName() { return NAME; }
 
-    public Locale getLocale() { return LOCALE; }
+    public Country getCountry() { return COUNTRY; }
 
-    public Tooltip getTooltip() { return TOOLTIP; }
+    /**
+     * @return the Locale of the country, shared by all paths of the country through the CountryRegistry
+     */
+    public Locale getLocale() { return null == COUNTRY ? new Locale("", NAME) : CountryRegistry.of(COUNTRY).getLocale(COUNTRY); }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Holds the metadata of all countries of one resolution (ISO 3166 codes,
+ * display names, continent and region) in arrays indexed by the ordinal of
+ * the country. All indexes are built once, lookups don't allocate and don't
+ * touch java.util.Locale. ISO2 and ISO3 codes are looked up in direct
+ * tables (26^2 and 26^3 slots) instead of hashing strings, which keeps data
+ * joins with millions of lookups cheap.
+ * Several entries of the map can share a code (e.g. the UM_* islands all
+ * belong to UM), the lookup by code returns the first of them.
+ */
+public class CountryRegistry {
+    public enum Continent { AFRICA, ANTARCTICA, ASIA, EUROPE, NORTH_AMERICA, OCEANIA, SOUTH_AMERICA }
+
+    private static final String                      RESOURCE    = "countries.csv";
+    private static final int                         NO_NUMERIC  = -1;
+    private        final Country[]                   COUNTRIES;
+    private        final Locale[]                    LOCALES;
+    private        final String[]                    ISO2;
+    private        final String[]                    ISO3;
+    private        final int[]                       NUMERIC;
+    private        final Continent[]                 CONTINENT;
+    private        final String[]                    REGION;
+    private        final String[][]                  DISPLAY_NAMES;
+    private        final Locale[]                    CODE_LOCALES;
+    private        final Country[]                   BY_ISO2;
+    private        final Country[]                   BY_ISO3;
+    private        final Country[]                   BY_NUMERIC;
+    private        final Map<String, Country>        BY_NAME;
+    private        final Map<Continent, List<Country>> BY_CONTINENT;
+    private        final Map<String, List<Country>>  BY_REGION;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates a registry for the given countries with display names in the
+     * given locales, the first locale is the default for getDisplayName().
+     * Without locales the default locale of the JVM is used.
+     */
+    public CountryRegistry(final Country[] COUNTRIES, final Locale... LOCALES) {
+        final int SIZE = COUNTRIES.length;
+        this.COUNTRIES     = COUNTRIES.clone();
+        this.LOCALES       = 0 == LOCALES.length ? new Locale[] { Locale.getDefault() } : LOCALES.clone();
+        this.ISO2          = new String[SIZE];
+        this.ISO3          = new String[SIZE];
+        this.NUMERIC       = new int[SIZE];
+        this.CONTINENT     = new Continent[SIZE];
+        this.REGION        = new String[SIZE];
+        this.DISPLAY_NAMES = new String[this.LOCALES.length][SIZE];
+        this.CODE_LOCALES  = new Locale[SIZE];
+        this.BY_ISO2       = new Country[26 * 26];
+        this.BY_ISO3       = new Country[26 * 26 * 26];
+        this.BY_NUMERIC    = new Country[1000];
+        this.BY_NAME       = new HashMap<>();
+        this.BY_CONTINENT  = new HashMap<>();
+        this.BY_REGION     = new HashMap<>();
+        init();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void init() {
+        final Map<String, String[]> RECORDS = readRecords();
+        for (Country country : COUNTRIES) {
+            final int      ORDINAL = country.ordinal();
+            final String[] RECORD  = RECORDS.get(country.name());
+            if (null == RECORD) { throw new IllegalArgumentException("No metadata for country " + country.name()); }
+            ISO2[ORDINAL]      = RECORD[1];
+            ISO3[ORDINAL]      = RECORD[2].isEmpty() ? null : RECORD[2];
+            NUMERIC[ORDINAL]   = RECORD[3].isEmpty() ? NO_NUMERIC : Integer.parseInt(RECORD[3]);
+            CONTINENT[ORDINAL] = Continent.valueOf(RECORD[4]);
+            REGION[ORDINAL]    = RECORD[5];
+
+            putIfAbsent(BY_ISO2, index(ISO2[ORDINAL]), country);
+            putIfAbsent(BY_ISO3, index(ISO3[ORDINAL]), country);
+            if (NO_NUMERIC != NUMERIC[ORDINAL]) { putIfAbsent(BY_NUMERIC, NUMERIC[ORDINAL], country); }
+            BY_CONTINENT.computeIfAbsent(CONTINENT[ORDINAL], k -> new ArrayList<>()).add(country);
+            BY_REGION.computeIfAbsent(REGION[ORDINAL], k -> new ArrayList<>()).add(country);
+
+            for (int i = 0 ; i < LOCALES.length ; i++) {
+                String name = new Locale("", ISO2[ORDINAL]).getDisplayCountry(LOCALES[i]);
+                // Locale doesn't know codes like GO and only knows the UM islands as a whole
+                if (name.isEmpty() || name.equals(ISO2[ORDINAL]) || country.name().indexOf('_') >= 0) { name = RECORD[6]; }
+                DISPLAY_NAMES[i][ORDINAL] = name;
+                BY_NAME.putIfAbsent(name.toLowerCase(LOCALES[i]), country);
+            }
+            BY_NAME.putIfAbsent(RECORD[6].toLowerCase(Locale.ROOT), country);
+        }
+        BY_CONTINENT.replaceAll((continent, countries) -> Collections.unmodifiableList(countries));
+        BY_REGION.replaceAll((region, countries) -> Collections.unmodifiableList(countries));
+    }
+
+    private static Map<String, String[]> readRecords() {
+        final Map<String, String[]> RECORDS = new HashMap<>();
+        try (InputStream STREAM = CountryRegistry.class.getResourceAsStream(RESOURCE);
+             BufferedReader READER = new BufferedReader(new InputStreamReader(STREAM, StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = READER.readLine())) {
+                if (line.isEmpty() || line.startsWith("#")) { continue; }
+                final String[] RECORD = line.split(";", -1);
+                RECORDS.put(RECORD[0], RECORD);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + RESOURCE, e);
+        }
+        return RECORDS;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the registry of the given country's resolution with display
+     * names in the default locale.
+     */
+    public static CountryRegistry of(final Country COUNTRY) {
+        if (COUNTRY instanceof CountryHighRes) { return getHighRes(); }
+        if (COUNTRY instanceof CountryLowRes)  { return getLowRes(); }
+        throw new IllegalArgumentException("Unknown country type " + COUNTRY.getClass().getName());
+    }
+    public static CountryRegistry getHighRes() { return HighResHolder.INSTANCE; }
+    public static CountryRegistry getLowRes() { return LowResHolder.INSTANCE; }
+
+    public List<Country> getCountries() { return Collections.unmodifiableList(Arrays.asList(COUNTRIES)); }
+
+    public List<Locale> getLocales() { return Collections.unmodifiableList(Arrays.asList(LOCALES)); }
+
+    public String getIso2(final Country COUNTRY) { return ISO2[COUNTRY.ordinal()]; }
+
+    /**
+     * @return the ISO 3166 alpha-3 code or null if the country has none
+     */
+    public String getIso3(final Country COUNTRY) { return ISO3[COUNTRY.ordinal()]; }
+
+    /**
+     * @return the ISO 3166 numeric code or -1 if the country has none
+     */
+    public int getNumeric(final Country COUNTRY) { return NUMERIC[COUNTRY.ordinal()]; }
+
+    public Continent getContinent(final Country COUNTRY) { return CONTINENT[COUNTRY.ordinal()]; }
+
+    /**
+     * @return the UN M49 sub-region, e.g. "Western Europe"
+     */
+    public String getRegion(final Country COUNTRY) { return REGION[COUNTRY.ordinal()]; }
+
+    public String getDisplayName(final Country COUNTRY) { return DISPLAY_NAMES[0][COUNTRY.ordinal()]; }
+    public String getDisplayName(final Country COUNTRY, final Locale LOCALE) {
+        for (int i = 0 ; i < LOCALES.length ; i++) {
+            if (LOCALES[i].equals(LOCALE)) { return DISPLAY_NAMES[i][COUNTRY.ordinal()]; }
+        }
+        throw new IllegalArgumentException("Locale " + LOCALE + " is not configured in this registry");
+    }
+
+    /**
+     * @return the Locale of the alpha-2 code of the given country, it is created on first use
+     */
+    public Locale getLocale(final Country COUNTRY) {
+        final int ORDINAL = COUNTRY.ordinal();
+        Locale    locale  = CODE_LOCALES[ORDINAL];
+        if (null == locale) {
+            // Locale is immutable, a race only creates it twice
+            locale                = new Locale("", ISO2[ORDINAL]);
+            CODE_LOCALES[ORDINAL] = locale;
+        }
+        return locale;
+    }
+
+    /**
+     * @return the country with the given alpha-2 code (case insensitive) or null
+     */
+    public Country fromIso2(final CharSequence ISO2_CODE) {
+        final int INDEX = index(ISO2_CODE);
+        return INDEX < 0 || 2 != ISO2_CODE.length() ? null : BY_ISO2[INDEX];
+    }
+
+    /**
+     * @return the country with the given alpha-3 code (case insensitive) or null
+     */
+    public Country fromIso3(final CharSequence ISO3_CODE) {
+        final int INDEX = index(ISO3_CODE);
+        return INDEX < 0 || 3 != ISO3_CODE.length() ? null : BY_ISO3[INDEX];
+    }
+
+    /**
+     * @return the country with the given numeric code or null
+     */
+    public Country fromNumeric(final int NUMERIC_CODE) {
+        return NUMERIC_CODE < 0 || NUMERIC_CODE >= BY_NUMERIC.length ? null : BY_NUMERIC[NUMERIC_CODE];
+    }
+
+    /**
+     * @return the country with the given display name in one of the configured locales (case insensitive) or null
+     */
+    public Country fromName(final String NAME) {
+        if (null == NAME) { return null; }
+        final Country COUNTRY = BY_NAME.get(NAME.toLowerCase(LOCALES[0]));
+        return null == COUNTRY ? BY_NAME.get(NAME.toLowerCase(Locale.ROOT)) : COUNTRY;
+    }
+
+    public List<Country> getCountries(final Continent CONTINENT) { return BY_CONTINENT.getOrDefault(CONTINENT, Collections.emptyList()); }
+
+    public List<Country> getCountries(final String REGION) { return BY_REGION.getOrDefault(REGION, Collections.emptyList()); }
+
+    private static void putIfAbsent(final Country[] TABLE, final int INDEX, final Country COUNTRY) {
+        if (INDEX >= 0 && null == TABLE[INDEX]) { TABLE[INDEX] = COUNTRY; }
+    }
+
+    /**
+     * Maps a code of up to three letters to its slot in a direct table,
+     * returns -1 for anything that is not a letter code.
+     */
+    private static int index(final CharSequence CODE) {
+        if (null == CODE || CODE.length() < 2 || CODE.length() > 3) { return -1; }
+        int index = 0;
+        for (int i = 0 ; i < CODE.length() ; i++) {
+            final char C      = CODE.charAt(i);
+            final int  LETTER = C >= 'a' ? C - 'a' : C - 'A';
+            if (LETTER < 0 || LETTER > 25) { return -1; }
+            index = index * 26 + LETTER;
+        }
+        return index;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class HighResHolder {
+        private static final CountryRegistry INSTANCE = new CountryRegistry(CountryHighRes.values());
+    }
+
+    private static class LowResHolder {
+        private static final CountryRegistry INSTANCE = new CountryRegistry(CountryLowRes.values());
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import javafx.application.Platform;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+
+/**
+ * Draws weighted flows between countries and/or locations, e.g. for
+ * migration or trade. The flow lines are bundled with force-directed edge
+ * bundling (Holten and van Wijk) on a fork-join pool in the background,
+ * in map coordinates so the result stays valid for every size and zoom.
+ * Compatible flows are looked up in a grid of midpoints and directions.
+ * It is cached until the set of flows changes. Line width and alpha grow
+ * with the weight; the flows are drawn in a few batches of similar weight,
+ * each stroked once.
+ */
+public class FlowLayer extends MapLayer {
+    private static final int                    CYCLES            = 5;
+    private static final int                    ITERATIONS        = 60;
+    private static final double                 STEP              = 0.1;
+    private static final double                 SPRING            = 0.1;
+    private static final double                 MIN_COMPATIBILITY = 0.6;
+    private static final int                    MAX_NEIGHBORS     = 32;
+    // beyond this ratio of lengths the scale compatibility alone is below MIN_COMPATIBILITY
+    private static final double                 MAX_LENGTH_RATIO  = 3;
+    // compatible flows have midpoints closer than this factor times the length of the flow
+    private static final double                 SEARCH_RADIUS     = (1 + MAX_LENGTH_RATIO) * 0.5 * (1 / MIN_COMPATIBILITY - 1);
+    private static final int                    SECTORS           = 12;
+    // compatible flows differ by at most acos(MIN_COMPATIBILITY) in direction
+    private static final int                    SECTOR_RANGE      = (int) Math.ceil(Math.acos(MIN_COMPATIBILITY) / (Math.PI / SECTORS));
+    private static final int                    WEIGHT_CLASSES    = 8;
+    private        final ForkJoinPool           POOL;
+    private        final List<Flow>             FLOWS;
+    private        final Map<Country, double[]> COUNTRY_CENTERS;
+    private              double[][]             curves;
+    private              boolean                bundling;
+    private              boolean                computing;
+    private              boolean                bundlePending;
+    private volatile     int                    generation;
+    private              long                   lastComputeMillis;
+    private              Color                  color;
+    private              double                 maxLineWidth;
+
+
+    // ******************** Constructors **************************************
+    public FlowLayer() {
+        this(ForkJoinPool.commonPool());
+    }
+    /**
+     * @param POOL the pool that computes the bundling
+     */
+    public FlowLayer(final ForkJoinPool POOL) {
+        this.POOL            = POOL;
+        this.FLOWS           = new ArrayList<>();
+        this.COUNTRY_CENTERS = new HashMap<>();
+        this.bundling        = true;
+        this.color           = Color.web("#00c8ff");
+        this.maxLineWidth    = 6;
+    }
+
+
+    // ******************** Methods *******************************************
+    public void addFlow(final Country ORIGIN, final Country DESTINATION, final double WEIGHT) { addFlow(center(ORIGIN), center(DESTINATION), WEIGHT); }
+    public void addFlow(final Country ORIGIN, final Location DESTINATION, final double WEIGHT) { addFlow(center(ORIGIN), point(DESTINATION), WEIGHT); }
+    public void addFlow(final Location ORIGIN, final Country DESTINATION, final double WEIGHT) { addFlow(point(ORIGIN), center(DESTINATION), WEIGHT); }
+    public void addFlow(final Location ORIGIN, final Location DESTINATION, final double WEIGHT) { addFlow(point(ORIGIN), point(DESTINATION), WEIGHT); }
+    private void addFlow(final double[] ORIGIN, final double[] DESTINATION, final double WEIGHT) {
+        if (WEIGHT <= 0) { throw new IllegalArgumentException("Weight must be positive"); }
+        if (ORIGIN[0] == DESTINATION[0] && ORIGIN[1] == DESTINATION[1]) { return; }
+        FLOWS.add(new Flow(ORIGIN[0], ORIGIN[1], DESTINATION[0], DESTINATION[1], WEIGHT));
+        invalidate();
+    }
+
+    public void clearFlows() {
+        FLOWS.clear();
+        invalidate();
+    }
+
+    public int getFlowCount() { return FLOWS.size(); }
+
+    /**
+     * If false the flows are drawn as straight lines.
+     */
+    public boolean isBundling() { return bundling; }
+    public void setBundling(final boolean BUNDLING) {
+        if (BUNDLING == bundling) { return; }
+        bundling = BUNDLING;
+        invalidate();
+    }
+
+    /**
+     * @return true while the bundling is computed in the background
+     */
+    public boolean isComputing() { return computing; }
+
+    /**
+     * @return the time the last bundling took in milliseconds
+     */
+    public long getLastComputeMillis() { return lastComputeMillis; }
+
+    public Color getColor() { return color; }
+    public void setColor(final Color COLOR) {
+        color = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * @return the width of the heaviest flow in screen pixels
+     */
+    public double getMaxLineWidth() { return maxLineWidth; }
+    public void setMaxLineWidth(final double WIDTH) {
+        maxLineWidth = WIDTH;
+        requestRedraw();
+    }
+
+    @Override protected void draw(final GraphicsContext CTX) {
+        final double[][] CURVES = curves;
+        if (FLOWS.isEmpty()) { return; }
+        double maxWeight = 0;
+        for (Flow flow : FLOWS) { maxWeight = Math.max(maxWeight, flow.WEIGHT); }
+        final double PIXEL = getPixelSize();
+        CTX.setStroke(color);
+        CTX.setLineCap(StrokeLineCap.ROUND);
+        CTX.setLineJoin(StrokeLineJoin.ROUND);
+        // flows of similar weight share one path, light flows are drawn first
+        for (int weightClass = 0 ; weightClass < WEIGHT_CLASSES ; weightClass++) {
+            final double FRACTION = (weightClass + 1) / (double) WEIGHT_CLASSES;
+            boolean      empty    = true;
+            CTX.beginPath();
+            for (int i = 0 ; i < FLOWS.size() ; i++) {
+                final Flow FLOW = FLOWS.get(i);
+                if (weightClass != Math.min(WEIGHT_CLASSES - 1, (int) (FLOW.WEIGHT / maxWeight * WEIGHT_CLASSES))) { continue; }
+                if (null == CURVES || i >= CURVES.length || null == CURVES[i]) {
+                    CTX.moveTo(FLOW.X1, FLOW.Y1);
+                    CTX.lineTo(FLOW.X2, FLOW.Y2);
+                } else {
+                    final double[] CURVE = CURVES[i];
+                    CTX.moveTo(CURVE[0], CURVE[1]);
+                    for (int p = 2 ; p < CURVE.length ; p += 2) { CTX.lineTo(CURVE[p], CURVE[p + 1]); }
+                }
+                empty = false;
+            }
+            if (empty) { continue; }
+            CTX.setGlobalAlpha(0.2 + 0.7 * FRACTION);
+            CTX.setLineWidth(Math.max(0.5, maxLineWidth * FRACTION) * PIXEL);
+            CTX.stroke();
+        }
+        CTX.setGlobalAlpha(1);
+    }
+
+    private void invalidate() {
+        generation++;
+        curves = null;
+        requestRedraw();
+        computing = bundling && !FLOWS.isEmpty();
+        if (!computing || bundlePending) { return; }
+        // adding many flows in a row starts one bundling only
+        bundlePending = true;
+        Platform.runLater(this::startBundling);
+    }
+
+    private void startBundling() {
+        bundlePending = false;
+        if (!computing) { return; }
+        final int    GENERATION = generation;
+        final Flow[] INPUT      = FLOWS.toArray(new Flow[0]);
+        final long   START      = System.currentTimeMillis();
+        CompletableFuture.supplyAsync(() -> bundle(INPUT, GENERATION), POOL).thenAccept(RESULT -> Platform.runLater(() -> {
+            // results of an outdated set of flows are thrown away
+            if (null == RESULT || GENERATION != generation) { return; }
+            computing         = false;
+            curves            = RESULT;
+            lastComputeMillis = System.currentTimeMillis() - START;
+            requestRedraw();
+        }));
+    }
+
+    private double[] center(final Country COUNTRY) {
+        return COUNTRY_CENTERS.computeIfAbsent(COUNTRY, country -> {
+            // the centroid of the largest ring, islands and exclaves would pull the center off the mainland
+            final GeometryStore STORE    = GeometryStore.of(country);
+            double[]            ring     = null;
+            double[]            best     = null;
+            double              bestArea = 0;
+            for (int r = 0 ; r < STORE.getRingCount(country) ; r++) {
+                final int LENGTH = 2 * STORE.getPointCount(country, r);
+                ring = STORE.getRing(country, r, ring);
+                double area = 0;
+                double cx   = 0;
+                double cy   = 0;
+                for (int i = 0 ; i < LENGTH ; i += 2) {
+                    final int    J     = (i + 2) % LENGTH;
+                    final double CROSS = ring[i] * ring[J + 1] - ring[J] * ring[i + 1];
+                    area += CROSS;
+                    cx   += (ring[i] + ring[J]) * CROSS;
+                    cy   += (ring[i + 1] + ring[J + 1]) * CROSS;
+                }
+                if (Math.abs(area) > bestArea) {
+                    bestArea = Math.abs(area);
+                    best     = new double[] { cx / (3 * area), cy / (3 * area) };
+                }
+            }
+            return null == best ? new double[] { 0, 0 } : best;
+        });
+    }
+
+    private static double[] point(final Location LOCATION) {
+        final Location.Position POSITION = LOCATION.getPosition();
+        return new double[] { POSITION.getX(), POSITION.getY() };
+    }
+
+
+    // ******************** Edge bundling *************************************
+    /**
+     * Force-directed edge bundling, returns the polyline of every flow.
+     * Each cycle doubles the subdivision points and halves the step, the
+     * points of an edge are attracted by its neighbors along the edge
+     * (spring) and by the points of compatible edges. Returns null if the
+     * flows changed in the meantime.
+     */
+    private double[][] bundle(final Flow[] FLOWS, final int GENERATION) {
+        final int        COUNT     = FLOWS.length;
+        final int[][]    NEIGHBORS = new int[COUNT][];
+        final double[][] STRENGTH  = new double[COUNT][];
+        final Grid       GRID      = new Grid(FLOWS);
+        IntStream.range(0, COUNT).parallel().forEach(i -> findCompatible(FLOWS, GRID, i, NEIGHBORS, STRENGTH));
+
+        double[][] points       = new double[COUNT][];
+        double[][] next         = new double[COUNT][];
+        int        subdivisions = 1;
+        double     step         = STEP;
+        int        iterations   = ITERATIONS;
+        for (int i = 0 ; i < COUNT ; i++) { points[i] = subdivide(FLOWS[i], null, subdivisions); }
+        for (int cycle = 0 ; cycle < CYCLES ; cycle++) {
+            if (GENERATION != generation) { return null; }
+            for (int iteration = 0 ; iteration < iterations ; iteration++) {
+                final double[][] CURRENT = points;
+                final double[][] TARGET  = next;
+                final double     S       = step;
+                IntStream.range(0, COUNT).parallel().forEach(i -> TARGET[i] = move(FLOWS[i], i, CURRENT, TARGET[i], NEIGHBORS, STRENGTH, S));
+                next   = points;
+                points = TARGET;
+            }
+            if (cycle < CYCLES - 1) {
+                subdivisions *= 2;
+                step         *= 0.5;
+                iterations    = Math.max(1, iterations * 2 / 3);
+                for (int i = 0 ; i < COUNT ; i++) {
+                    points[i] = subdivide(FLOWS[i], points[i], subdivisions);
+                    next[i]   = null;
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Finds the most compatible flows of the flow at INDEX. Only the grid
+     * cells around its midpoint and the sectors around its direction are
+     * visited, all other flows cannot reach MIN_COMPATIBILITY.
+     */
+    private static void findCompatible(final Flow[] FLOWS, final Grid GRID, final int INDEX, final int[][] NEIGHBORS, final double[][] STRENGTH) {
+        final Flow     P       = FLOWS[INDEX];
+        final int[]    BEST    = new int[MAX_NEIGHBORS];
+        final double[] SCORE   = new double[MAX_NEIGHBORS];
+        int            size    = 0;
+        final double   RADIUS  = P.LENGTH * SEARCH_RADIUS;
+        final int      MIN_COL = GRID.column(P.MX - RADIUS);
+        final int      MAX_COL = GRID.column(P.MX + RADIUS);
+        final int      MIN_ROW = GRID.row(P.MY - RADIUS);
+        final int      MAX_ROW = GRID.row(P.MY + RADIUS);
+        final int      SECTOR  = sector(P);
+        final boolean  ALL     = 2 * SECTOR_RANGE + 1 >= SECTORS;
+        for (int row = MIN_ROW ; row <= MAX_ROW ; row++) {
+            for (int col = MIN_COL ; col <= MAX_COL ; col++) {
+                for (int ds = ALL ? 0 : -SECTOR_RANGE ; ds <= (ALL ? SECTORS - 1 : SECTOR_RANGE) ; ds++) {
+                    final int BUCKET = GRID.bucket(col, row, Math.floorMod(SECTOR + ds, SECTORS));
+                    for (int b = GRID.START[BUCKET] ; b < GRID.START[BUCKET + 1] ; b++) {
+                        final int j = GRID.INDICES[b];
+                        if (j == INDEX) { continue; }
+                        final Flow   Q     = FLOWS[j];
+                        final double ANGLE = Math.abs(P.DX * Q.DX + P.DY * Q.DY) / (P.LENGTH * Q.LENGTH);
+                        if (ANGLE < MIN_COMPATIBILITY) { continue; }
+                        final double AVG      = (P.LENGTH + Q.LENGTH) * 0.5;
+                        final double SCALE    = 2 / (AVG / Math.min(P.LENGTH, Q.LENGTH) + Math.max(P.LENGTH, Q.LENGTH) / AVG);
+                        final double MX       = P.MX - Q.MX;
+                        final double MY       = P.MY - Q.MY;
+                        final double POSITION = AVG / (AVG + Math.sqrt(MX * MX + MY * MY));
+                        final double C        = ANGLE * SCALE * POSITION;
+                        if (C < MIN_COMPATIBILITY) { continue; }
+                        // keep the most compatible edges only, sorted by score
+                        if (size == MAX_NEIGHBORS && C <= SCORE[size - 1]) { continue; }
+                        int k = size < MAX_NEIGHBORS ? size++ : size - 1;
+                        while (k > 0 && SCORE[k - 1] < C) {
+                            SCORE[k] = SCORE[k - 1];
+                            BEST[k]  = BEST[k - 1];
+                            k--;
+                        }
+                        SCORE[k] = C;
+                        // edges running in the opposite direction are stored as ~j, their points are visited backwards
+                        BEST[k]  = P.DX * Q.DX + P.DY * Q.DY < 0 ? ~j : j;
+                    }
+                }
+            }
+        }
+        NEIGHBORS[INDEX] = Arrays.copyOf(BEST, size);
+        STRENGTH[INDEX]  = Arrays.copyOf(SCORE, size);
+    }
+
+    /**
+     * @return the sector of the direction of the given flow, opposite directions share a sector
+     */
+    private static int sector(final Flow FLOW) {
+        final double ANGLE = Math.atan2(FLOW.DY, FLOW.DX);
+        final double ORIENTATION = ANGLE < 0 ? ANGLE + Math.PI : ANGLE;
+        return Math.min(SECTORS - 1, (int) (ORIENTATION / Math.PI * SECTORS));
+    }
+
+    private static double[] move(final Flow FLOW, final int INDEX, final double[][] POINTS, final double[] TARGET,
+                                 final int[][] NEIGHBORS, final double[][] STRENGTH, final double STEP_SIZE) {
+        final double[] P       = POINTS[INDEX];
+        final double[] RESULT  = null == TARGET || TARGET.length != P.length ? new double[P.length] : TARGET;
+        final int      LAST    = P.length / 2 - 1;
+        final double   K       = SPRING / (FLOW.LENGTH * LAST);
+        final int[]    OTHERS  = NEIGHBORS[INDEX];
+        final double[] WEIGHTS = STRENGTH[INDEX];
+        RESULT[0]            = P[0];
+        RESULT[1]            = P[1];
+        RESULT[2 * LAST]     = P[2 * LAST];
+        RESULT[2 * LAST + 1] = P[2 * LAST + 1];
+        for (int i = 1 ; i < LAST ; i++) {
+            final double X  = P[2 * i];
+            final double Y  = P[2 * i + 1];
+            double       fx = K * (P[2 * i - 2] + P[2 * i + 2] - 2 * X);
+            double       fy = K * (P[2 * i - 1] + P[2 * i + 3] - 2 * Y);
+            for (int n = 0 ; n < OTHERS.length ; n++) {
+                final boolean  REVERSED = OTHERS[n] < 0;
+                final double[] Q        = POINTS[REVERSED ? ~OTHERS[n] : OTHERS[n]];
+                final int      J        = REVERSED ? LAST - i : i;
+                final double   DX       = Q[2 * J] - X;
+                final double   DY       = Q[2 * J + 1] - Y;
+                final double   D        = Math.sqrt(DX * DX + DY * DY);
+                if (D < 1e-6) { continue; }
+                fx += WEIGHTS[n] * DX / D;
+                fy += WEIGHTS[n] * DY / D;
+            }
+            RESULT[2 * i]     = X + STEP_SIZE * fx;
+            RESULT[2 * i + 1] = Y + STEP_SIZE * fy;
+        }
+        return RESULT;
+    }
+
+    /**
+     * Resamples the given polyline (or the straight flow) into SUBDIVISIONS
+     * segments of equal length.
+     */
+    private static double[] subdivide(final Flow FLOW, final double[] POLYLINE, final int SUBDIVISIONS) {
+        final double[] RESULT = new double[2 * (SUBDIVISIONS + 1)];
+        if (null == POLYLINE) {
+            for (int i = 0 ; i <= SUBDIVISIONS ; i++) {
+                final double F = i / (double) SUBDIVISIONS;
+                RESULT[2 * i]     = FLOW.X1 + FLOW.DX * F;
+                RESULT[2 * i + 1] = FLOW.Y1 + FLOW.DY * F;
+            }
+            return RESULT;
+        }
+        double length = 0;
+        for (int i = 2 ; i < POLYLINE.length ; i += 2) { length += Math.hypot(POLYLINE[i] - POLYLINE[i - 2], POLYLINE[i + 1] - POLYLINE[i - 1]); }
+        final double SEGMENT = length / SUBDIVISIONS;
+        RESULT[0] = POLYLINE[0];
+        RESULT[1] = POLYLINE[1];
+        int    point   = 1;
+        double covered = 0;
+        for (int i = 2 ; i < POLYLINE.length && point < SUBDIVISIONS ; i += 2) {
+            final double X0  = POLYLINE[i - 2];
+            final double Y0  = POLYLINE[i - 1];
+            final double LEN = Math.hypot(POLYLINE[i] - X0, POLYLINE[i + 1] - Y0);
+            while (point < SUBDIVISIONS && covered + LEN >= point * SEGMENT) {
+                final double F = LEN > 0 ? (point * SEGMENT - covered) / LEN : 0;
+                RESULT[2 * point]     = X0 + (POLYLINE[i] - X0) * F;
+                RESULT[2 * point + 1] = Y0 + (POLYLINE[i + 1] - Y0) * F;
+                point++;
+            }
+            covered += LEN;
+        }
+        for ( ; point <= SUBDIVISIONS ; point++) {
+            RESULT[2 * point]     = POLYLINE[POLYLINE.length - 2];
+            RESULT[2 * point + 1] = POLYLINE[POLYLINE.length - 1];
+        }
+        return RESULT;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Flow indices bucketed by grid cell of their midpoint and by direction
+     * sector, stored as one array per bucket start and one of indices.
+     */
+    private static final class Grid {
+        private final double MIN_X;
+        private final double MIN_Y;
+        private final double CELL_SIZE;
+        private final int    COLUMNS;
+        private final int    ROWS;
+        private final int[]  START;
+        private final int[]  INDICES;
+
+        private Grid(final Flow[] FLOWS) {
+            double minX   = Double.MAX_VALUE;
+            double minY   = Double.MAX_VALUE;
+            double maxX   = -Double.MAX_VALUE;
+            double maxY   = -Double.MAX_VALUE;
+            double length = 0;
+            for (Flow flow : FLOWS) {
+                minX    = Math.min(minX, flow.MX);
+                minY    = Math.min(minY, flow.MY);
+                maxX    = Math.max(maxX, flow.MX);
+                maxY    = Math.max(maxY, flow.MY);
+                length += flow.LENGTH;
+            }
+            // cells of about the size of the search radius of an average flow, at most 256 x 256 of them
+            final double EXTENT = Math.max(maxX - minX, maxY - minY);
+            MIN_X     = minX;
+            MIN_Y     = minY;
+            CELL_SIZE = Math.max(Math.max(length / FLOWS.length * SEARCH_RADIUS, EXTENT / 256), 1e-6);
+            COLUMNS   = (int) ((maxX - minX) / CELL_SIZE) + 1;
+            ROWS      = (int) ((maxY - minY) / CELL_SIZE) + 1;
+            START     = new int[COLUMNS * ROWS * SECTORS + 1];
+            INDICES   = new int[FLOWS.length];
+            final int[] BUCKETS = new int[FLOWS.length];
+            for (int i = 0 ; i < FLOWS.length ; i++) {
+                BUCKETS[i] = bucket(column(FLOWS[i].MX), row(FLOWS[i].MY), sector(FLOWS[i]));
+                START[BUCKETS[i] + 1]++;
+            }
+            for (int b = 0 ; b < START.length - 1 ; b++) { START[b + 1] += START[b]; }
+            final int[] FILL = Arrays.copyOf(START, START.length - 1);
+            for (int i = 0 ; i < FLOWS.length ; i++) { INDICES[FILL[BUCKETS[i]]++] = i; }
+        }
+
+        private int column(final double X) { return Math.max(0, Math.min(COLUMNS - 1, (int) Math.floor((X - MIN_X) / CELL_SIZE))); }
+
+        private int row(final double Y) { return Math.max(0, Math.min(ROWS - 1, (int) Math.floor((Y - MIN_Y) / CELL_SIZE))); }
+
+        private int bucket(final int COLUMN, final int ROW, final int SECTOR) { return (ROW * COLUMNS + COLUMN) * SECTORS + SECTOR; }
+    }
+
+    private static final class Flow {
+        private final double X1;
+        private final double Y1;
+        private final double X2;
+        private final double Y2;
+        private final double DX;
+        private final double DY;
+        private final double MX;
+        private final double MY;
+        private final double LENGTH;
+        private final double WEIGHT;
+
+        private Flow(final double X1, final double Y1, final double X2, final double Y2, final double WEIGHT) {
+            this.X1     = X1;
+            this.Y1     = Y1;
+            this.X2     = X2;
+            this.Y2     = Y2;
+            this.DX     = X2 - X1;
+            this.DY     = Y2 - Y1;
+            this.MX     = (X1 + X2) * 0.5;
+            this.MY     = (Y1 + Y2) * 0.5;
+            this.LENGTH = Math.sqrt(DX * DX + DY * DY);
+            this.WEIGHT = WEIGHT;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.scene.canvas.GraphicsContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+
+/**
+ * Holds the outline rings of all countries of one resolution off-heap in a
+ * single direct buffer. Every coordinate is stored as an unsigned 16 bit
+ * fixed-point value relative to the bounds of its country, which keeps the
+ * error below 1/65535 of the country extent (far below a pixel even for
+ * Russia at full zoom) at a quarter of the size of the parsed doubles.
+ * The store is built from the path strings in the countries-*.txt
+ * resources, which are dropped afterwards, and is immutable after
+ * construction, it can be read from any thread. It is the only resident
+ * copy of the outlines: the content of the CountryPaths is built from it
+ * and CountryOutlines only keeps it for the paths that are shown.
+ * For the high resolution the store takes 453 KB of which 372 KB are
+ * off-heap, the path strings have 1.28 million chars and the parsed
+ * doubles would take about 1.5 MB.
+ */
+public final class GeometryStore {
+    private static final int        BYTES_PER_POINT = 2 * Character.BYTES;
+    private static final double     SCALE           = 65535;
+    private        final CharBuffer POINTS;
+    private        final int[]      PATH_COUNT;
+    private        final int[]      FIRST_RING;
+    private        final int[]      RING_START;
+    private        final int[]      RING_PATH;
+    private        final double[]   RING_AREA;
+    private        final double[]   RING_BOUNDS;
+    private        final double[]   BOUNDS;
+    private        final long       BUILD_NANOS;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param PATH_STRINGS the source path strings of every country, one per CountryPath, they are not kept
+     */
+    GeometryStore(final Country[] COUNTRIES, final String[][] PATH_STRINGS) {
+        final long         START = System.nanoTime();
+        final double[][][] RINGS = new double[COUNTRIES.length][][];
+        final int[][]      PATHS = new int[COUNTRIES.length][];
+        IntStream.range(0, COUNTRIES.length).parallel().forEach(i -> {
+            // parsed path by path to remember which CountryPath every ring belongs to
+            final List<double[]> COUNTRY_RINGS = new ArrayList<>();
+            final List<Integer>  RING_PATHS    = new ArrayList<>();
+            for (int p = 0 ; p < PATH_STRINGS[i].length ; p++) {
+                for (double[] ring : SvgPathParser.parse(PATH_STRINGS[i][p])) {
+                    COUNTRY_RINGS.add(ring);
+                    RING_PATHS.add(p);
+                }
+            }
+            RINGS[i] = COUNTRY_RINGS.toArray(new double[COUNTRY_RINGS.size()][]);
+            PATHS[i] = RING_PATHS.stream().mapToInt(Integer::intValue).toArray();
+        });
+
+        int ringCount  = 0;
+        int pointCount = 0;
+        for (double[][] rings : RINGS) {
+            ringCount += rings.length;
+            for (double[] ring : rings) { pointCount += ring.length / 2; }
+        }
+
+        final ByteBuffer BUFFER = ByteBuffer.allocateDirect(pointCount * BYTES_PER_POINT).order(ByteOrder.nativeOrder());
+        POINTS      = BUFFER.asCharBuffer();
+        PATH_COUNT  = Arrays.stream(PATH_STRINGS).mapToInt(paths -> paths.length).toArray();
+        FIRST_RING  = new int[COUNTRIES.length + 1];
+        RING_START  = new int[ringCount + 1];
+        RING_PATH   = new int[ringCount];
+        RING_AREA   = new double[ringCount];
+        RING_BOUNDS = new double[ringCount * 4];
+        BOUNDS      = new double[COUNTRIES.length * 4];
+
+        int ring  = 0;
+        int point = 0;
+        for (int c = 0 ; c < COUNTRIES.length ; c++) {
+            final double[] B = SvgPathParser.bounds(RINGS[c]);
+            if (0 == RINGS[c].length) { B[0] = B[1] = B[2] = B[3] = 0; }
+            System.arraycopy(B, 0, BOUNDS, c * 4, 4);
+            final double SX = B[2] > B[0] ? SCALE / (B[2] - B[0]) : 0;
+            final double SY = B[3] > B[1] ? SCALE / (B[3] - B[1]) : 0;
+
+            FIRST_RING[c] = ring;
+            for (int r = 0 ; r < RINGS[c].length ; r++) {
+                final double[] COORDS = RINGS[c][r];
+                RING_PATH[ring]    = PATHS[c][r];
+                RING_AREA[ring]    = area(COORDS);
+                System.arraycopy(SvgPathParser.bounds(new double[][] { COORDS }), 0, RING_BOUNDS, ring * 4, 4);
+                RING_START[ring++] = point;
+                for (int i = 0 ; i < COORDS.length ; i += 2) {
+                    POINTS.put(2 * point,     (char) Math.round((COORDS[i]     - B[0]) * SX));
+                    POINTS.put(2 * point + 1, (char) Math.round((COORDS[i + 1] - B[1]) * SY));
+                    point++;
+                }
+            }
+        }
+        FIRST_RING[COUNTRIES.length] = ring;
+        RING_START[ringCount]        = point;
+        BUILD_NANOS                  = System.nanoTime() - START;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the store of the given country's resolution, the store is built
+     * on first access.
+     */
+    public static GeometryStore of(final Country COUNTRY) {
+        if (COUNTRY instanceof CountryHighRes) { return getHighRes(); }
+        if (COUNTRY instanceof CountryLowRes)  { return getLowRes(); }
+        throw new IllegalArgumentException("Unknown country type " + COUNTRY.getClass().getName());
+    }
+    public static GeometryStore getHighRes() { return HighResHolder.INSTANCE; }
+    public static GeometryStore getLowRes() { return LowResHolder.INSTANCE; }
+
+    /**
+     * @return the number of CountryPaths of the given country
+     */
+    public int getPathCount(final Country COUNTRY) { return PATH_COUNT[COUNTRY.ordinal()]; }
+
+    public int getRingCount(final Country COUNTRY) { return FIRST_RING[COUNTRY.ordinal() + 1] - FIRST_RING[COUNTRY.ordinal()]; }
+
+    public int getPointCount(final Country COUNTRY, final int RING) {
+        final int R = ring(COUNTRY, RING);
+        return RING_START[R + 1] - RING_START[R];
+    }
+
+    /**
+     * @return the index of the CountryPath in Country.getPaths() the given ring belongs to
+     */
+    public int getPathIndex(final Country COUNTRY, final int RING) { return RING_PATH[ring(COUNTRY, RING)]; }
+
+    /**
+     * @return the unsigned area of the given ring in square map units
+     */
+    public double getArea(final Country COUNTRY, final int RING) { return RING_AREA[ring(COUNTRY, RING)]; }
+
+    /**
+     * @return the bounds of the given ring as [minX, minY, maxX, maxY]
+     */
+    public double[] getRingBounds(final Country COUNTRY, final int RING) {
+        final double[] RESULT = new double[4];
+        System.arraycopy(RING_BOUNDS, ring(COUNTRY, RING) * 4, RESULT, 0, 4);
+        return RESULT;
+    }
+
+    /**
+     * @return the x coordinate of the given point in map coordinates
+     */
+    public double getX(final Country COUNTRY, final int RING, final int POINT) {
+        final int O = COUNTRY.ordinal() * 4;
+        return BOUNDS[O] + POINTS.get(2 * (RING_START[ring(COUNTRY, RING)] + POINT)) * ((BOUNDS[O + 2] - BOUNDS[O]) / SCALE);
+    }
+
+    /**
+     * @return the y coordinate of the given point in map coordinates
+     */
+    public double getY(final Country COUNTRY, final int RING, final int POINT) {
+        final int O = COUNTRY.ordinal() * 4;
+        return BOUNDS[O + 1] + POINTS.get(2 * (RING_START[ring(COUNTRY, RING)] + POINT) + 1) * ((BOUNDS[O + 3] - BOUNDS[O + 1]) / SCALE);
+    }
+
+    /**
+     * Decodes the given ring into TARGET as [x0, y0, x1, y1, ...] and returns
+     * it, a new array is allocated if TARGET is null or too small.
+     */
+    public double[] getRing(final Country COUNTRY, final int RING, final double[] TARGET) {
+        final int      R      = ring(COUNTRY, RING);
+        final int      FROM   = RING_START[R];
+        final int      LENGTH = 2 * (RING_START[R + 1] - FROM);
+        final double[] RESULT = null == TARGET || TARGET.length < LENGTH ? new double[LENGTH] : TARGET;
+        final int      O      = COUNTRY.ordinal() * 4;
+        final double   MIN_X  = BOUNDS[O];
+        final double   MIN_Y  = BOUNDS[O + 1];
+        final double   SX     = (BOUNDS[O + 2] - MIN_X) / SCALE;
+        final double   SY     = (BOUNDS[O + 3] - MIN_Y) / SCALE;
+        for (int i = 0, p = 2 * FROM ; i < LENGTH ; i += 2, p += 2) {
+            RESULT[i]     = MIN_X + POINTS.get(p)     * SX;
+            RESULT[i + 1] = MIN_Y + POINTS.get(p + 1) * SY;
+        }
+        return RESULT;
+    }
+
+    /**
+     * @return all rings of the given country as newly allocated arrays
+     */
+    public double[][] getRings(final Country COUNTRY) {
+        final double[][] RESULT = new double[getRingCount(COUNTRY)][];
+        for (int i = 0 ; i < RESULT.length ; i++) { RESULT[i] = getRing(COUNTRY, i, null); }
+        return RESULT;
+    }
+
+    /**
+     * @return the bounds of the given country as [minX, minY, maxX, maxY]
+     */
+    public double[] getBounds(final Country COUNTRY) {
+        final double[] RESULT = new double[4];
+        System.arraycopy(BOUNDS, COUNTRY.ordinal() * 4, RESULT, 0, 4);
+        return RESULT;
+    }
+
+    /**
+     * Appends the outline of the given country to the current path of the
+     * given context, the caller decides when to fill or stroke it.
+     */
+    public void trace(final Country COUNTRY, final GraphicsContext CTX) {
+        final int    O     = COUNTRY.ordinal() * 4;
+        final double MIN_X = BOUNDS[O];
+        final double MIN_Y = BOUNDS[O + 1];
+        final double SX    = (BOUNDS[O + 2] - MIN_X) / SCALE;
+        final double SY    = (BOUNDS[O + 3] - MIN_Y) / SCALE;
+        for (int r = FIRST_RING[COUNTRY.ordinal()] ; r < FIRST_RING[COUNTRY.ordinal() + 1] ; r++) {
+            final int END = 2 * RING_START[r + 1];
+            for (int p = 2 * RING_START[r] ; p < END ; p += 2) {
+                final double X = MIN_X + POINTS.get(p) * SX;
+                final double Y = MIN_Y + POINTS.get(p + 1) * SY;
+                if (p == 2 * RING_START[r]) { CTX.moveTo(X, Y); } else { CTX.lineTo(X, Y); }
+            }
+            CTX.closePath();
+        }
+    }
+
+    /**
+     * Returns the SVG path content of the given CountryPath with all its
+     * rings, coordinates are rounded to 1/1000 like in the source strings.
+     */
+    public String getContent(final Country COUNTRY, final int PATH) {
+        final StringBuilder CONTENT = new StringBuilder();
+        double[]            ring    = null;
+        for (int r = 0 ; r < getRingCount(COUNTRY) ; r++) {
+            if (getPathIndex(COUNTRY, r) != PATH) { continue; }
+            ring = getRing(COUNTRY, r, ring);
+            // relative steps in whole thousandths keep the content as short as the source without adding up rounding errors
+            long lastX = Math.round(ring[0] * 1000);
+            long lastY = Math.round(ring[1] * 1000);
+            appendThousandths(appendThousandths(CONTENT.append('M'), lastX).append(','), lastY);
+            for (int i = 2, end = 2 * getPointCount(COUNTRY, r) ; i < end ; i += 2) {
+                final long X = Math.round(ring[i] * 1000);
+                final long Y = Math.round(ring[i + 1] * 1000);
+                if (X == lastX && Y == lastY) { continue; }
+                appendThousandths(appendThousandths(CONTENT.append('l'), X - lastX).append(','), Y - lastY);
+                lastX = X;
+                lastY = Y;
+            }
+            CONTENT.append('Z');
+        }
+        return CONTENT.toString();
+    }
+
+    /**
+     * @return the bytes held by the store, off-heap points plus the on-heap index
+     */
+    public long getMemoryUsage() {
+        return (long) POINTS.capacity() * Character.BYTES + 4L * (PATH_COUNT.length + FIRST_RING.length + RING_START.length + RING_PATH.length) + 8L * (RING_AREA.length + RING_BOUNDS.length + BOUNDS.length);
+    }
+
+    public long getBuildNanos() { return BUILD_NANOS; }
+
+    private int ring(final Country COUNTRY, final int RING) {
+        final int FIRST = FIRST_RING[COUNTRY.ordinal()];
+        if (RING < 0 || FIRST + RING >= FIRST_RING[COUNTRY.ordinal() + 1]) {
+            throw new IndexOutOfBoundsException("Ring " + RING + " of " + COUNTRY.name());
+        }
+        return FIRST + RING;
+    }
+
+    private static StringBuilder appendThousandths(final StringBuilder CONTENT, final long VALUE) {
+        final long ABS      = Math.abs(VALUE);
+        final int  FRACTION = (int) (ABS % 1000);
+        if (VALUE < 0) { CONTENT.append('-'); }
+        CONTENT.append(ABS / 1000);
+        if (0 != FRACTION) {
+            CONTENT.append('.').append(FRACTION / 100);
+            if (0 != FRACTION % 100) {
+                CONTENT.append(FRACTION / 10 % 10);
+                if (0 != FRACTION % 10) { CONTENT.append(FRACTION % 10); }
+            }
+        }
+        return CONTENT;
+    }
+
+    /**
+     * Reads the path strings of the given countries from the given resource,
+     * one line per country as code;path;path...
+     */
+    static String[][] readPathStrings(final String RESOURCE, final Country[] COUNTRIES) {
+        final Map<String, Integer> ORDINALS = new HashMap<>();
+        for (Country country : COUNTRIES) { ORDINALS.put(country.name(), country.ordinal()); }
+        final String[][] PATH_STRINGS = new String[COUNTRIES.length][];
+        try (InputStream STREAM = GeometryStore.class.getResourceAsStream(RESOURCE);
+             BufferedReader READER = new BufferedReader(new InputStreamReader(STREAM, StandardCharsets.US_ASCII))) {
+            String line;
+            while (null != (line = READER.readLine())) {
+                if (line.isEmpty() || line.startsWith("#")) { continue; }
+                final int     SEPARATOR = line.indexOf(';');
+                final Integer ORDINAL   = ORDINALS.get(line.substring(0, SEPARATOR));
+                if (null != ORDINAL) { PATH_STRINGS[ORDINAL] = line.substring(SEPARATOR + 1).split(";"); }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + RESOURCE, e);
+        }
+        for (Country country : COUNTRIES) {
+            if (null == PATH_STRINGS[country.ordinal()]) { throw new IllegalStateException("No paths for " + country.name() + " in " + RESOURCE); }
+        }
+        return PATH_STRINGS;
+    }
+
+    private static double area(final double[] RING) {
+        double area = 0;
+        for (int i = 0 ; i < RING.length ; i += 2) {
+            final int J = (i + 2) % RING.length;
+            area += RING[i] * RING[J + 1] - RING[J] * RING[i + 1];
+        }
+        return Math.abs(area) * 0.5;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class HighResHolder {
+        private static final GeometryStore INSTANCE = new GeometryStore(CountryHighRes.values(), readPathStrings("countries-high-res.txt", CountryHighRes.values()));
+    }
+
+    private static class LowResHolder {
+        private static final GeometryStore INSTANCE = new GeometryStore(CountryLowRes.values(), readPathStrings("countries-low-res.txt", CountryLowRes.values()));
+    }
+}
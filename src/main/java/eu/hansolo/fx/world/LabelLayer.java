@@ -0,0 +1,595 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.application.Platform;
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+
+/**
+ * Places the names of countries and locations on the map without overlaps.
+ * Country names are anchored at the pole of inaccessibility of the country,
+ * the point inside of it that is farthest from its outline, and are only
+ * shown if the country is large enough on screen. Location names are
+ * placed right, left, above or below their location. Labels are placed
+ * greedily in the order of their priority (the area of a country and the
+ * insertion order of locations by default) and collisions are found in a
+ * uniform grid of placed boxes. The placement is kept while the map is
+ * panned, only labels that come into view are added, and it is redone when
+ * the scale changes. Labels that came into view are placed after the ones
+ * that were there already and may be blocked by labels of lower priority,
+ * so all labels are placed in order again once the interaction ended. A
+ * moving location only moves its own label, which takes the space that is
+ * free at the new position until the next complete placement.
+ * The poles and names of the countries are computed in the background when
+ * the layer is created, country labels appear once they are ready.
+ */
+public class LabelLayer extends MapLayer {
+    private static final double                     CELL_SIZE       = 64;
+    private static final int                        MAX_CELLS       = 1 << 18;
+    private static final double                     CHAR_WIDTH      = 0.6;
+    private static final double                     LOCATION_OFFSET = 4;
+    private static final double                     POLE_PRECISION  = 0.1;
+    private static final int                        MIN_COMPACTION  = 256;
+    private        final Map<Location, Label>       LOCATIONS;
+    private        final CollisionGrid              GRID;
+    private              Label[]                    countryLabels;
+    private              Label[]                    labels;
+    private              boolean                    labelsDirty;
+    private              ToDoubleFunction<Country>  countryPriority;
+    private              ToDoubleFunction<Location> locationPriority;
+    private              String                     fontFamily;
+    private              double                     countryFontSize;
+    private              double                     locationFontSize;
+    private              Color                      textColor;
+    private              Color                      haloColor;
+    private              double                     placedScale;
+    private              int                        generation;
+    private              int                        placedCount;
+    // true until the first labels of a generation have been placed
+    private              boolean                    fresh;
+    // labels have been added to a placement while the user panned
+    private              boolean                    reorder;
+    private              long                       lastPlacementNanos;
+
+
+    // ******************** Constructors **************************************
+    public LabelLayer() {
+        this(new Country[0]);
+    }
+    /**
+     * @param COUNTRIES the countries to label, e.g. CountryHighRes.values()
+     */
+    public LabelLayer(final Country... COUNTRIES) {
+        this(ForkJoinPool.commonPool(), COUNTRIES);
+    }
+    /**
+     * @param POOL      the pool that computes the poles of the countries
+     * @param COUNTRIES the countries to label
+     */
+    public LabelLayer(final ForkJoinPool POOL, final Country... COUNTRIES) {
+        LOCATIONS        = new IdentityHashMap<>();
+        GRID             = new CollisionGrid();
+        labels           = new Label[0];
+        labelsDirty      = true;
+        countryPriority  = null;
+        locationPriority = null;
+        fontFamily       = "System";
+        countryFontSize  = 12;
+        locationFontSize = 10;
+        textColor        = Color.web("#1f1f1f");
+        haloColor        = Color.web("#ffffff", 0.7);
+        countryLabels    = new Label[0];
+        if (COUNTRIES.length > 0) {
+            final Country[] INPUT = COUNTRIES.clone();
+            CompletableFuture.supplyAsync(() -> createCountryLabels(INPUT), POOL).thenAccept(RESULT -> Platform.runLater(() -> {
+                countryLabels = RESULT;
+                invalidate();
+            }));
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    public void addLocation(final Location LOCATION) {
+        if (LOCATIONS.containsKey(LOCATION)) { return; }
+        LOCATIONS.put(LOCATION, new Label(LOCATION));
+        invalidate();
+    }
+    public void addLocations(final Iterable<Location> LOCATIONS) {
+        for (Location location : LOCATIONS) {
+            if (!this.LOCATIONS.containsKey(location)) { this.LOCATIONS.put(location, new Label(location)); }
+        }
+        invalidate();
+    }
+    public void removeLocation(final Location LOCATION) {
+        if (null != LOCATIONS.remove(LOCATION)) { invalidate(); }
+    }
+    public void clearLocations() {
+        LOCATIONS.clear();
+        invalidate();
+    }
+
+    /**
+     * Labels with a higher priority are placed first. By default countries
+     * are ranked by their area, a function can rank them by e.g. the
+     * population in their ValueObject instead. Country labels are always
+     * placed before location labels.
+     */
+    public void setCountryPriority(final ToDoubleFunction<Country> PRIORITY) {
+        countryPriority = PRIORITY;
+        invalidate();
+    }
+    /**
+     * Locations without a priority function keep the order they were added in.
+     */
+    public void setLocationPriority(final ToDoubleFunction<Location> PRIORITY) {
+        locationPriority = PRIORITY;
+        invalidate();
+    }
+
+    public String getFontFamily() { return fontFamily; }
+    public void setFontFamily(final String FAMILY) {
+        fontFamily = FAMILY;
+        requestRedraw();
+    }
+
+    /**
+     * @return the font size of country labels in screen pixels
+     */
+    public double getCountryFontSize() { return countryFontSize; }
+    public void setCountryFontSize(final double SIZE) {
+        countryFontSize = SIZE;
+        invalidate();
+    }
+
+    /**
+     * @return the font size of location labels in screen pixels
+     */
+    public double getLocationFontSize() { return locationFontSize; }
+    public void setLocationFontSize(final double SIZE) {
+        locationFontSize = SIZE;
+        invalidate();
+    }
+
+    public Color getTextColor() { return textColor; }
+    public void setTextColor(final Color COLOR) {
+        textColor = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * The color of the outline around the text, null draws no outline.
+     */
+    public Color getHaloColor() { return haloColor; }
+    public void setHaloColor(final Color COLOR) {
+        haloColor = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * @return the number of labels placed at the current scale
+     */
+    public int getPlacedCount() { return placedCount; }
+
+    /**
+     * @return the time the last placement took in nanoseconds
+     */
+    public long getLastPlacementNanos() { return lastPlacementNanos; }
+
+    @Override protected void locationMoved(final Location LOCATION) {
+        final Label LABEL = LOCATIONS.get(LOCATION);
+        if (null == LABEL) { return; }
+        final Location.Position POSITION = LOCATION.getPosition();
+        LABEL.x = POSITION.getX();
+        LABEL.y = POSITION.getY();
+        // only this label is placed again, at its new position once it is in view
+        if (LABEL.box >= 0) {
+            GRID.remove(LABEL.box);
+            LABEL.box = -1;
+            placedCount--;
+            if (GRID.getRemovedCount() > Math.max(MIN_COMPACTION, placedCount)) { compactGrid(); }
+        }
+        LABEL.tried = generation - 1;
+        LABEL.moved = true;
+        requestRedraw();
+    }
+
+    @Override protected void draw(final GraphicsContext CTX) {
+        place();
+        if (0 == placedCount) { return; }
+        final double PIXEL         = getPixelSize();
+        final Font   COUNTRY_FONT  = Font.font(fontFamily, FontWeight.BOLD, countryFontSize * PIXEL);
+        final Font   LOCATION_FONT = Font.font(fontFamily, FontWeight.NORMAL, locationFontSize * PIXEL);
+        final Bounds VIEWPORT      = getViewport();
+        CTX.setTextAlign(TextAlignment.LEFT);
+        CTX.setTextBaseline(VPos.TOP);
+        CTX.setFill(textColor);
+        CTX.setLineWidth(3 * PIXEL);
+        if (null != haloColor) { CTX.setStroke(haloColor); }
+        for (Label label : labels) {
+            if (label.box < 0 || !VIEWPORT.intersects(label.boxX, label.boxY, label.width * PIXEL, label.height * PIXEL)) { continue; }
+            CTX.setFont(null == label.LOCATION ? COUNTRY_FONT : LOCATION_FONT);
+            if (null != haloColor) { CTX.strokeText(label.text, label.boxX, label.boxY); }
+            CTX.fillText(label.text, label.boxX, label.boxY);
+        }
+    }
+
+    /**
+     * Places the labels for the current viewport. At the scale of the last
+     * placement only labels that were not tried yet (i.e. came into view or
+     * moved) are added, otherwise all labels are placed again.
+     */
+    void place() {
+        final Bounds VIEWPORT = getViewport();
+        if (null == VIEWPORT) { return; }
+        final long   START = System.nanoTime();
+        final double SCALE = 1 / getPixelSize();
+        if (labelsDirty) { rebuildLabels(); }
+        if (SCALE != placedScale || (reorder && !isInteracting())) { reset(SCALE); }
+        placeUntried(VIEWPORT, SCALE);
+        if (reorder && !isInteracting()) {
+            reset(SCALE);
+            placeUntried(VIEWPORT, SCALE);
+        }
+        lastPlacementNanos = System.nanoTime() - START;
+    }
+
+    private void reset(final double SCALE) {
+        placedScale = SCALE;
+        placedCount = 0;
+        fresh       = true;
+        reorder     = false;
+        generation++;
+        GRID.reset(CELL_SIZE / SCALE);
+        for (Label label : labels) { label.box = -1; }
+    }
+
+    private void placeUntried(final Bounds VIEWPORT, final double SCALE) {
+        final double PIXEL = 1 / SCALE;
+        for (Label label : labels) {
+            if (label.tried == generation) { continue; }
+            if (label.x < VIEWPORT.getMinX() || label.x > VIEWPORT.getMaxX() || label.y < VIEWPORT.getMinY() || label.y > VIEWPORT.getMaxY()) { continue; }
+            label.tried = generation;
+            if (!fresh && !label.moved) { reorder = true; }
+            label.moved = false;
+            if (null == label.LOCATION) {
+                // the name has to fit into the country
+                if (2 * label.radius * SCALE < label.height) { continue; }
+                tryPlace(label, label.x - 0.5 * label.width * PIXEL, label.y - 0.5 * label.height * PIXEL, PIXEL);
+            } else {
+                final double W      = label.width * PIXEL;
+                final double H      = label.height * PIXEL;
+                final double OFFSET = LOCATION_OFFSET * PIXEL;
+                if (!tryPlace(label, label.x + OFFSET, label.y - 0.5 * H, PIXEL) &&
+                    !tryPlace(label, label.x - OFFSET - W, label.y - 0.5 * H, PIXEL) &&
+                    !tryPlace(label, label.x - 0.5 * W, label.y - OFFSET - H, PIXEL)) {
+                    tryPlace(label, label.x - 0.5 * W, label.y + OFFSET, PIXEL);
+                }
+            }
+        }
+        fresh = false;
+    }
+
+    private boolean tryPlace(final Label LABEL, final double X, final double Y, final double PIXEL) {
+        final double MAX_X = X + LABEL.width * PIXEL;
+        final double MAX_Y = Y + LABEL.height * PIXEL;
+        if (GRID.intersects(X, Y, MAX_X, MAX_Y)) { return false; }
+        LABEL.box  = GRID.add(X, Y, MAX_X, MAX_Y);
+        LABEL.boxX = X;
+        LABEL.boxY = Y;
+        placedCount++;
+        return true;
+    }
+
+    /**
+     * Builds the grid from the placed labels again, the boxes of moved
+     * labels are only marked as removed and would pile up otherwise.
+     */
+    private void compactGrid() {
+        final double PIXEL = 1 / placedScale;
+        GRID.reset(CELL_SIZE / placedScale);
+        for (Label label : labels) {
+            if (label.box >= 0) { label.box = GRID.add(label.boxX, label.boxY, label.boxX + label.width * PIXEL, label.boxY + label.height * PIXEL); }
+        }
+    }
+
+    private void invalidate() {
+        labelsDirty = true;
+        requestRedraw();
+    }
+
+    private void rebuildLabels() {
+        labelsDirty = false;
+        placedScale = 0;
+        final List<Label> RESULT = new ArrayList<>(countryLabels.length + LOCATIONS.size());
+        for (Label label : countryLabels) {
+            label.priority = null == countryPriority ? label.area : countryPriority.applyAsDouble(label.COUNTRY);
+            label.measure(countryFontSize);
+            RESULT.add(label);
+        }
+        final int COUNT = countryLabels.length;
+        RESULT.sort(Comparator.comparingDouble((Label label) -> label.priority).reversed());
+        for (Label label : LOCATIONS.values()) {
+            label.text     = null == label.LOCATION.getName() ? "" : label.LOCATION.getName();
+            final Location.Position POSITION = label.LOCATION.getPosition();
+            label.x        = POSITION.getX();
+            label.y        = POSITION.getY();
+            label.priority = null == locationPriority ? 0 : locationPriority.applyAsDouble(label.LOCATION);
+            label.measure(locationFontSize);
+            if (!label.text.isEmpty()) { RESULT.add(label); }
+        }
+        // the sort is stable, locations of equal priority keep the order they were added in
+        if (null != locationPriority) { RESULT.subList(COUNT, RESULT.size()).sort(Comparator.comparingDouble((Label label) -> label.priority).reversed()); }
+        labels = RESULT.toArray(new Label[0]);
+    }
+
+    private static Label[] createCountryLabels(final Country[] COUNTRIES) {
+        final Label[] RESULT = new Label[COUNTRIES.length];
+        IntStream.range(0, COUNTRIES.length).parallel().forEach(i -> {
+            final Country       COUNTRY = COUNTRIES[i];
+            final GeometryStore STORE   = GeometryStore.of(COUNTRY);
+            final Label         LABEL   = new Label(COUNTRY, CountryRegistry.of(COUNTRY).getDisplayName(COUNTRY), poleOfInaccessibility(COUNTRY));
+            for (int r = 0 ; r < STORE.getRingCount(COUNTRY) ; r++) { LABEL.area += STORE.getArea(COUNTRY, r); }
+            RESULT[i] = LABEL;
+        });
+        return RESULT;
+    }
+
+
+    // ******************** Pole of inaccessibility ***************************
+    /**
+     * Finds the point of the largest ring of the given country that is
+     * farthest from the outline by subdividing the bounds of the ring into
+     * cells and only refining cells that may contain a better point
+     * (polylabel). Holes and neighbouring islands within the bounds count
+     * as outline.
+     *
+     * @return [x, y, distance to the outline] in map coordinates
+     */
+    static double[] poleOfInaccessibility(final Country COUNTRY) {
+        final GeometryStore STORE   = GeometryStore.of(COUNTRY);
+        int                 largest = -1;
+        for (int r = 0 ; r < STORE.getRingCount(COUNTRY) ; r++) {
+            if (largest < 0 || STORE.getArea(COUNTRY, r) > STORE.getArea(COUNTRY, largest)) { largest = r; }
+        }
+        if (largest < 0) { return new double[] { 0, 0, 0 }; }
+
+        final double[]       B     = STORE.getRingBounds(COUNTRY, largest);
+        final List<double[]> RINGS = new ArrayList<>();
+        for (int r = 0 ; r < STORE.getRingCount(COUNTRY) ; r++) {
+            final double[] RB = STORE.getRingBounds(COUNTRY, r);
+            if (RB[2] >= B[0] && RB[0] <= B[2] && RB[3] >= B[1] && RB[1] <= B[3]) { RINGS.add(STORE.getRing(COUNTRY, r, null)); }
+        }
+        return poleOfInaccessibility(RINGS.toArray(new double[RINGS.size()][]), B);
+    }
+
+    /**
+     * Finds the point within the given bounds that is inside of the outline
+     * and farthest from it.
+     *
+     * @param OUTLINE the rings as [x0, y0, x1, y1, ...], holes are rings too
+     * @param B       the bounds to search as [minX, minY, maxX, maxY]
+     * @return [x, y, distance to the outline]
+     */
+    static double[] poleOfInaccessibility(final double[][] OUTLINE, final double[] B) {
+        final double SIZE = Math.min(B[2] - B[0], B[3] - B[1]);
+        if (SIZE <= 0) { return new double[] { B[0], B[1], 0 }; }
+
+        // a label needs no more precision than a fraction of the country size
+        final double                  PRECISION = Math.max(POLE_PRECISION, SIZE * 0.01);
+        final PriorityQueue<double[]> QUEUE     = new PriorityQueue<>((a, b) -> Double.compare(b[4], a[4]));
+        final double                  H         = SIZE * 0.5;
+        for (double x = B[0] ; x < B[2] ; x += SIZE) {
+            for (double y = B[1] ; y < B[3] ; y += SIZE) { QUEUE.add(cell(x + H, y + H, H, OUTLINE)); }
+        }
+        double[] best = cell((B[0] + B[2]) * 0.5, (B[1] + B[3]) * 0.5, 0, OUTLINE);
+        while (!QUEUE.isEmpty()) {
+            final double[] CELL = QUEUE.poll();
+            if (CELL[3] > best[3]) { best = CELL; }
+            if (CELL[4] - best[3] <= PRECISION) { continue; }
+            final double HALF = CELL[2] * 0.5;
+            QUEUE.add(cell(CELL[0] - HALF, CELL[1] - HALF, HALF, OUTLINE));
+            QUEUE.add(cell(CELL[0] + HALF, CELL[1] - HALF, HALF, OUTLINE));
+            QUEUE.add(cell(CELL[0] - HALF, CELL[1] + HALF, HALF, OUTLINE));
+            QUEUE.add(cell(CELL[0] + HALF, CELL[1] + HALF, HALF, OUTLINE));
+        }
+        return new double[] { best[0], best[1], Math.max(0, best[3]) };
+    }
+
+    /**
+     * @return [x, y, half size, signed distance to the outline, max distance within the cell]
+     */
+    private static double[] cell(final double X, final double Y, final double H, final double[][] OUTLINE) {
+        boolean inside  = false;
+        double  minDist = Double.MAX_VALUE;
+        for (double[] ring : OUTLINE) {
+            for (int i = 0, j = ring.length - 2 ; i < ring.length ; j = i, i += 2) {
+                final double AX = ring[i];
+                final double AY = ring[i + 1];
+                final double BX = ring[j];
+                final double BY = ring[j + 1];
+                if ((AY > Y) != (BY > Y) && X < (BX - AX) * (Y - AY) / (BY - AY) + AX) { inside = !inside; }
+                minDist = Math.min(minDist, segmentDistanceSquared(X, Y, AX, AY, BX, BY));
+            }
+        }
+        final double DISTANCE = (inside ? 1 : -1) * Math.sqrt(minDist);
+        return new double[] { X, Y, H, DISTANCE, DISTANCE + H * Math.sqrt(2) };
+    }
+
+    private static double segmentDistanceSquared(final double PX, final double PY, final double AX, final double AY, final double BX, final double BY) {
+        double       x  = AX;
+        double       y  = AY;
+        final double DX = BX - AX;
+        final double DY = BY - AY;
+        if (DX != 0 || DY != 0) {
+            final double T = ((PX - AX) * DX + (PY - AY) * DY) / (DX * DX + DY * DY);
+            if (T > 1) {
+                x = BX;
+                y = BY;
+            } else if (T > 0) {
+                x += DX * T;
+                y += DY * T;
+            }
+        }
+        return (PX - x) * (PX - x) + (PY - y) * (PY - y);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Label {
+        private final Country  COUNTRY;
+        private final Location LOCATION;
+        private       String   text;
+        private       double   x;
+        private       double   y;
+        private       double   radius;
+        private       double   area;
+        private       double   priority;
+        private       double   width;
+        private       double   height;
+        private       double   boxX;
+        private       double   boxY;
+        // the box in the collision grid or -1 if the label is not placed
+        private       int      box = -1;
+        private       int      tried;
+        private       boolean  moved;
+
+
+        Label(final Country COUNTRY, final String TEXT, final double[] POLE) {
+            this.COUNTRY  = COUNTRY;
+            this.LOCATION = null;
+            text          = TEXT;
+            x             = POLE[0];
+            y             = POLE[1];
+            radius        = POLE[2];
+        }
+        Label(final Location LOCATION) {
+            this.COUNTRY  = null;
+            this.LOCATION = LOCATION;
+        }
+
+
+        /**
+         * Estimates the size of the label in screen pixels, measuring the
+         * text with the font would be too slow for thousands of labels.
+         */
+        private void measure(final double FONT_SIZE) {
+            width  = CHAR_WIDTH * FONT_SIZE * text.length();
+            height = FONT_SIZE * 1.2;
+        }
+    }
+
+    /**
+     * Uniform grid over the map of the boxes of the placed labels, every box
+     * is registered in all cells it covers.
+     */
+    private static final class CollisionGrid {
+        private double   cellSize;
+        private int      columns;
+        private int      rows;
+        private int[]    heads   = new int[0];
+        private int[]    next    = new int[256];
+        private int[]    entries = new int[256];
+        private int      entryCount;
+        private double[] boxes   = new double[256];
+        private int      boxCount;
+        private int      removedCount;
+
+
+        private void reset(final double CELL_SIZE) {
+            // the grid must not get too large when zoomed in deep, the cells grow instead
+            cellSize = Math.max(CELL_SIZE, Math.sqrt(Projection.MAP_WIDTH * Projection.MAP_HEIGHT / MAX_CELLS));
+            columns  = (int) Math.ceil(Projection.MAP_WIDTH / cellSize);
+            rows     = (int) Math.ceil(Projection.MAP_HEIGHT / cellSize);
+            if (heads.length < columns * rows) { heads = new int[columns * rows]; }
+            Arrays.fill(heads, 0, columns * rows, -1);
+            entryCount   = 0;
+            boxCount     = 0;
+            removedCount = 0;
+        }
+
+        private boolean intersects(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+            for (int row = row(MIN_Y) ; row <= row(MAX_Y) ; row++) {
+                for (int column = column(MIN_X) ; column <= column(MAX_X) ; column++) {
+                    for (int e = heads[row * columns + column] ; e >= 0 ; e = next[e]) {
+                        final int B = 4 * entries[e];
+                        if (MIN_X < boxes[B + 2] && MAX_X > boxes[B] && MIN_Y < boxes[B + 3] && MAX_Y > boxes[B + 1]) { return true; }
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the index of the box
+         */
+        private int add(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+            if (4 * boxCount + 4 > boxes.length) { boxes = Arrays.copyOf(boxes, boxes.length * 2); }
+            final int BOX = boxCount++;
+            boxes[4 * BOX]     = MIN_X;
+            boxes[4 * BOX + 1] = MIN_Y;
+            boxes[4 * BOX + 2] = MAX_X;
+            boxes[4 * BOX + 3] = MAX_Y;
+            for (int row = row(MIN_Y) ; row <= row(MAX_Y) ; row++) {
+                for (int column = column(MIN_X) ; column <= column(MAX_X) ; column++) {
+                    if (entryCount == entries.length) {
+                        entries = Arrays.copyOf(entries, entryCount * 2);
+                        next    = Arrays.copyOf(next, entryCount * 2);
+                    }
+                    final int CELL = row * columns + column;
+                    entries[entryCount] = BOX;
+                    next[entryCount]    = heads[CELL];
+                    heads[CELL]         = entryCount++;
+                }
+            }
+            return BOX;
+        }
+
+        /**
+         * The box stays in its cells but intersects nothing anymore.
+         */
+        private void remove(final int BOX) {
+            Arrays.fill(boxes, 4 * BOX, 4 * BOX + 4, Double.NaN);
+            removedCount++;
+        }
+
+        private int getRemovedCount() { return removedCount; }
+
+        private int column(final double X) { return Math.max(0, Math.min(columns - 1, (int) (X / cellSize))); }
+
+        private int row(final double Y) { return Math.max(0, Math.min(rows - 1, (int) (Y / cellSize))); }
+    }
+}
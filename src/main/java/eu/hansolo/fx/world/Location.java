@@ -20,18 +20,30 @@ package eu.hansolo.fx.world;
 import javafx.scene.paint.Color;
 import org.kordamp.ikonli.Ikon;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 
 /**
  * Created by hansolo on 20.11.16.
  */
 public class Location {
-    private static final double EARTH_RADIUS     = 6_371_000; // [m]
-    private              String name;
-    private              double latitude;
-    private              double longitude;
-    private              String info;
-    private              Color  color;
-    private              Ikon   iconCode;
+    static final int POSITION = 1;
+    static final int STYLE    = 2;
+    static final int TEXT     = 4;
+
+    private static final double                                           EARTH_RADIUS = 6_371_000; // [m]
+    private static final AtomicIntegerFieldUpdater<Location>              DIRTY        = AtomicIntegerFieldUpdater.newUpdater(Location.class, "dirty");
+    private static final AtomicReferenceFieldUpdater<Location, Position> POSITION_REF = AtomicReferenceFieldUpdater.newUpdater(Location.class, Position.class, "position");
+    // the setters may be called from any thread, the world reads the values on the FX thread
+    private volatile     String                                           name;
+    private volatile     Position                                         position;
+    private volatile     String                                           info;
+    private volatile     Color                                            color;
+    private volatile     Ikon                                             iconCode;
+    // changes are collected as flags and handed to the world that shows the location
+    private volatile     int                                              dirty;
+    private volatile     Observer                                         observer;
 
 
     // ******************** Constructors **************************************
@@ -64,8 +76,7 @@ public class Location {
     }
     public Location(final String NAME, final double LATITUDE, final double LONGITUDE, final String INFO, final Color COLOR, final Ikon ICON_CODE) {
         name      = NAME;
-        latitude  = LATITUDE;
-        longitude = LONGITUDE;
+        position  = new Position(LATITUDE, LONGITUDE);
         info      = INFO;
         color     = COLOR;
         iconCode  = ICON_CODE;
@@ -74,22 +85,64 @@ public class Location {
 
     // ******************** Methods *******************************************
     public String getName() { return name; }
-    public void setName(final String NAME) { name = NAME; }
+    public void setName(final String NAME) {
+        name = NAME;
+        markDirty(TEXT);
+    }
+
+    public double getLatitude() { return position.LATITUDE; }
+    public void setLatitude(final double LATITUDE) {
+        Position current;
+        Position next;
+        do {
+            current = position;
+            next    = new Position(LATITUDE, current.LONGITUDE);
+        } while (!POSITION_REF.compareAndSet(this, current, next));
+        moved(next);
+    }
+
+    public double getLongitude() { return position.LONGITUDE; }
+    public void setLongitude(final double LONGITUDE) {
+        Position current;
+        Position next;
+        do {
+            current = position;
+            next    = new Position(current.LATITUDE, LONGITUDE);
+        } while (!POSITION_REF.compareAndSet(this, current, next));
+        moved(next);
+    }
 
-    public double getLatitude() { return latitude; }
-    public void setLatitude(final double LATITUDE) { latitude = LATITUDE; }
+    /**
+     * Sets latitude and longitude at once, the marker moves only once.
+     */
+    public void setPosition(final double LATITUDE, final double LONGITUDE) {
+        final Position NEXT = new Position(LATITUDE, LONGITUDE);
+        position = NEXT;
+        moved(NEXT);
+    }
 
-    public double getLongitude() { return longitude; }
-    public void setLongitude(final double LONGITUDE) { longitude = LONGITUDE; }
+    /**
+     * @return latitude and longitude that have been set together, also while another thread moves the location
+     */
+    Position getPosition() { return position; }
 
     public String getInfo() { return info; }
-    public void setInfo(final String INFO) { info = INFO; }
+    public void setInfo(final String INFO) {
+        info = INFO;
+        markDirty(TEXT);
+    }
 
     public Color getColor() { return color; }
-    public void setColor(final Color COLOR) { color = COLOR; }
+    public void setColor(final Color COLOR) {
+        color = COLOR;
+        markDirty(STYLE);
+    }
 
     public Ikon getIconCode() { return iconCode; }
-    public void setIconCode(final Ikon ICON_CODE) { iconCode = ICON_CODE; }
+    public void setIconCode(final Ikon ICON_CODE) {
+        iconCode = ICON_CODE;
+        markDirty(STYLE);
+    }
 
     public double getDistanceTo(final Location LOCATION) { return calcDistanceInMeter(this, LOCATION); }
 
@@ -112,4 +165,65 @@ public class Location {
 
         return DISTANCE;
     }
+
+    void setObserver(final Observer OBSERVER) { observer = OBSERVER; }
+    Observer getObserver() { return observer; }
+
+    /**
+     * Returns the changes since the last call as a combination of POSITION,
+     * STYLE and TEXT and clears them.
+     */
+    int clearDirty() { return DIRTY.getAndSet(this, 0); }
+
+    private void moved(final Position NEXT) {
+        final Observer OBSERVER = observer;
+        if (null != OBSERVER) { OBSERVER.positionChanged(this, NEXT); }
+        markDirty(POSITION);
+    }
+
+    /**
+     * Setters can be called from any thread, they only set a flag. The
+     * observer is told once per batch of changes, i.e. when the first flag
+     * is set after the world processed the last changes. The values are
+     * volatile, so they are visible to the world even if the flag had been
+     * set already and nothing is written here.
+     */
+    private void markDirty(final int FLAG) {
+        int flags;
+        do {
+            flags = dirty;
+            if ((flags & FLAG) == FLAG) { return; }
+        } while (!DIRTY.compareAndSet(this, flags, flags | FLAG));
+        final Observer OBSERVER = observer;
+        if (0 == flags && null != OBSERVER) { OBSERVER.locationChanged(this); }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    static final class Position {
+        final double LATITUDE;
+        final double LONGITUDE;
+
+        private Position(final double LATITUDE, final double LONGITUDE) {
+            this.LATITUDE  = LATITUDE;
+            this.LONGITUDE = LONGITUDE;
+        }
+
+        double getX() { return Projection.toX(LONGITUDE); }
+
+        double getY() { return Projection.toY(LATITUDE); }
+    }
+
+    interface Observer {
+        /**
+         * Called on the thread of the setter, must not touch the scene graph.
+         */
+        void locationChanged(Location LOCATION);
+
+        /**
+         * Called on the thread of the setter for every new position, also if
+         * the world has not processed the previous one yet.
+         */
+        default void positionChanged(Location LOCATION, Position POSITION) {}
+    }
 }
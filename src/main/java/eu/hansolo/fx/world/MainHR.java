@@ -25,9 +25,7 @@ import javafx.stage.Stage;
 import org.kordamp.ikonli.materialdesign.MaterialDesign;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.MissingResourceException;
 
 
 /**
@@ -47,6 +45,7 @@ public class MainHR extends Application {
                             .hoverColor(Color.web("#fec47e"))
                             .pressedColor(Color.web("#6cee85"))
                             .locationColor(Color.web("#0000ff"))
+                            .zoomEnabled(true)
                             .locations(new Location("SFO", 37.619751, -122.374366),
                                        new Location("YYC", 51.128148, -114.010791),
                                        new Location("ORD", 41.975806, -87.905294),
@@ -64,10 +63,11 @@ public class MainHR extends Application {
                                        new Location("NRT", 35.766948, 140.385254),
                                        new Location("SYD", -33.939040, 151.174996))
                             .mousePressHandler(evt -> {
-                                CountryPath countryPath = (CountryPath) evt.getSource();
-                                Locale      locale      = countryPath.getLocale();
-                                System.out.println(locale.getDisplayCountry() + " (" + locale.getISO3Country() + ")");
-                                System.out.println(CountryHighRes.valueOf(countryPath.getName()).getValue() + " million people");
+                                CountryPath     countryPath = (CountryPath) evt.getSource();
+                                Country         country     = countryPath.getCountry();
+                                CountryRegistry registry    = CountryRegistry.of(country);
+                                System.out.println(registry.getDisplayName(country) + " (" + registry.getIso3(country) + ")");
+                                System.out.println(country.getValue() + " million people");
                             })
                             .build();
 
@@ -77,12 +77,10 @@ public class MainHR extends Application {
         addPopulationData(data);
 
 
+        CountryRegistry registry = CountryRegistry.getHighRes();
         for (CountryHighRes country : CountryHighRes.values()) {
-            try {
-                String iso3Key = new Locale("", country.name()).getISO3Country();
-                Double value   = data.get(iso3Key);
-                country.setValue(new PopulationValueObject(null == value ? -1 : value));
-            } catch (MissingResourceException e) {}
+            Double value = data.get(registry.getIso3(country));
+            country.setValue(new PopulationValueObject(null == value ? -1 : value));
         }
     }
 
@@ -23,9 +23,7 @@ import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.MissingResourceException;
 
 
 /**
@@ -49,18 +47,17 @@ public class MainLR extends Application {
         addPopulationData(data);
 
         world.setMousePressHandler(evt -> {
-            CountryPath countryPath = (CountryPath) evt.getSource();
-            Locale      locale      = countryPath.getLocale();
-            System.out.println(locale.getDisplayCountry() + " (" + locale.getISO3Country() + ")");
-            System.out.println(CountryLowRes.valueOf(countryPath.getName()).getValue() + " million people");
+            CountryPath     countryPath = (CountryPath) evt.getSource();
+            Country         country     = countryPath.getCountry();
+            CountryRegistry registry    = CountryRegistry.of(country);
+            System.out.println(registry.getDisplayName(country) + " (" + registry.getIso3(country) + ")");
+            System.out.println(country.getValue() + " million people");
         });
 
+        CountryRegistry registry = CountryRegistry.getLowRes();
         for (CountryLowRes country : CountryLowRes.values()) {
-            try {
-                String iso3Key = new Locale("", country.name()).getISO3Country();
-                Double value   = data.get(iso3Key);
-                country.setValue(new PopulationValueObject(null == value ? -1 : value));
-            } catch (MissingResourceException e) {}
+            Double value = data.get(registry.getIso3(country));
+            country.setValue(new PopulationValueObject(null == value ? -1 : value));
         }
 
         Location SFO = new Location("SFO", 37.619751, -122.374366);
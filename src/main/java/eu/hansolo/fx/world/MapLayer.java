@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import javafx.application.Platform;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+
+
+/**
+ * Base class of layers that draw many items (moving objects, trails,
+ * routes...) on one canvas instead of adding a node per item. The layer
+ * is drawn in map coordinates (see Projection). The World tells its
+ * layers the visible part of the map and the current scale. The canvas
+ * only covers the visible part in screen pixels, so the drawing stays
+ * sharp at any zoom level, and it lies above the content of the World
+ * so that redrawing it does not invalidate any cached bitmap.
+ */
+public abstract class MapLayer extends Canvas {
+    private static final double   MAX_SIZE = 8192;
+    private        final Affine   PLACEMENT;
+    private              double   screenScale;
+    private              Bounds   viewport;
+    // map coordinates of the top left corner of the canvas and canvas pixels per map unit
+    private              double   canvasX;
+    private              double   canvasY;
+    private              double   canvasScaleX;
+    private              double   canvasScaleY;
+    private              boolean  interacting;
+    private              boolean  redrawPending;
+    private              Runnable redrawRunnable;
+    // set by the World the layer has been added to, read from any thread
+    volatile             World    world;
+
+
+    // ******************** Constructors **************************************
+    protected MapLayer() {
+        super(Projection.MAP_WIDTH, Projection.MAP_HEIGHT);
+        PLACEMENT      = new Affine();
+        screenScale    = 1;
+        viewport       = new BoundingBox(0, 0, Projection.MAP_WIDTH, Projection.MAP_HEIGHT);
+        canvasScaleX   = 1;
+        canvasScaleY   = 1;
+        redrawRunnable = () -> {
+            redrawPending = false;
+            redraw();
+        };
+        getTransforms().add(PLACEMENT);
+        setMouseTransparent(true);
+        setManaged(false);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Called by the World whenever the visible part of the map or its scale changed.
+     *
+     * @param MAP_TO_SCENE    transforms map coordinates to scene coordinates
+     * @param SCENE_TO_PARENT transforms scene coordinates to the coordinates of the parent of the layer
+     * @param VIEWPORT        the visible part of the map in map coordinates or null if nothing is visible
+     * @param INTERACTING     true while the user zooms or pans, the canvas keeps its size and area then and only follows the map
+     */
+    void setViewport(final Transform MAP_TO_SCENE, final Transform SCENE_TO_PARENT, final Bounds VIEWPORT, final boolean INTERACTING) {
+        screenScale = MAP_TO_SCENE.getMxx();
+        viewport    = VIEWPORT;
+        interacting = INTERACTING;
+        if (null != VIEWPORT && !INTERACTING) {
+            final Bounds AREA  = MAP_TO_SCENE.transform(VIEWPORT);
+            final double SCALE = Math.min(1, MAX_SIZE / Math.max(AREA.getWidth(), AREA.getHeight()));
+            setWidth(Math.ceil(AREA.getWidth() * SCALE));
+            setHeight(Math.ceil(AREA.getHeight() * SCALE));
+            canvasX      = VIEWPORT.getMinX();
+            canvasY      = VIEWPORT.getMinY();
+            canvasScaleX = MAP_TO_SCENE.getMxx() * SCALE;
+            canvasScaleY = MAP_TO_SCENE.getMyy() * SCALE;
+        }
+        // canvas pixels -> map -> scene -> parent, while interacting this scales and moves the canvas with the map
+        final Affine CANVAS_TO_MAP = new Affine(1 / canvasScaleX, 0, canvasX, 0, 1 / canvasScaleY, canvasY);
+        PLACEMENT.setToTransform(SCENE_TO_PARENT.createConcatenation(MAP_TO_SCENE).createConcatenation(CANVAS_TO_MAP));
+        redraw();
+    }
+
+    /**
+     * @return the visible part of the map in map coordinates or null if nothing is visible
+     */
+    public Bounds getViewport() { return viewport; }
+
+    /**
+     * @return true while the user zooms or pans the map
+     */
+    public boolean isInteracting() { return interacting; }
+
+    /**
+     * @return the size of one screen pixel in map units, e.g. to draw lines with a width of one pixel
+     */
+    public double getPixelSize() { return 1 / screenScale; }
+
+    /**
+     * @return true if the given point is in the visible part of the map
+     */
+    public boolean isInViewport(final double X, final double Y) {
+        return null != viewport && X >= viewport.getMinX() && X <= viewport.getMaxX() && Y >= viewport.getMinY() && Y <= viewport.getMaxY();
+    }
+
+    /**
+     * Redraws the layer once in the next pulse, no matter how often this is called.
+     */
+    public void requestRedraw() {
+        if (redrawPending) { return; }
+        redrawPending = true;
+        Platform.runLater(redrawRunnable);
+    }
+
+    /**
+     * Clears the canvas and redraws the layer immediately.
+     */
+    public void redraw() {
+        final GraphicsContext CTX = getGraphicsContext2D();
+        CTX.setTransform(1, 0, 0, 1, 0, 0);
+        CTX.clearRect(0, 0, getWidth(), getHeight());
+        if (null == viewport) { return; }
+        CTX.setTransform(canvasScaleX, 0, 0, canvasScaleY, -canvasX * canvasScaleX, -canvasY * canvasScaleY);
+        draw(CTX);
+    }
+
+    /**
+     * Layers that cache geometry report their cache hits and misses here,
+     * they are shown in the performance overlay of the World.
+     */
+    public long getCacheHitCount() { return 0; }
+    public long getCacheMissCount() { return 0; }
+
+    /**
+     * Called by the World on the FX thread after it moved the marker of the
+     * given location.
+     */
+    protected void locationMoved(final Location LOCATION) {}
+
+    /**
+     * Draws the layer in map coordinates, the canvas has been cleared before.
+     */
+    protected abstract void draw(final GraphicsContext CTX);
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.Arrays;
+
+
+/**
+ * Shows large numbers of moving objects (vehicles, aircraft...) as dots.
+ * Position fixes are offered from any thread to a lock-free PositionBuffer
+ * and drained once per pulse on the FX thread, only the latest fix per id
+ * is applied. Optionally the dots glide from their current to their new
+ * position within the interpolation duration.
+ * The positions are kept in primitive arrays indexed by a slot per id.
+ */
+public class MovingObjectLayer extends MapLayer {
+    private static final int                             DEFAULT_CAPACITY = 1 << 16;
+    private        final PositionBuffer                  BUFFER;
+    private        final PositionBuffer.PositionConsumer APPLY_FIX;
+    private        final AnimationTimer                  TIMER;
+    private              LongIntMap                      slots;
+    private              long[]                          ids;
+    private              double[]                        fromX;
+    private              double[]                        fromY;
+    private              double[]                        toX;
+    private              double[]                        toY;
+    private              long[]                          fixTimes;
+    private              long[]                          moveStart;
+    private              int                             size;
+    private              long                            now;
+    private              long                            interpolationNanos;
+    private              long                            lastMoveEnd;
+    private              boolean                         moving;
+    private              boolean                         dirty;
+    private              Color                           color;
+    private              double                          dotSize;
+    private              long                            appliedCount;
+    private              long                            coalescedCount;
+    private              int                             lastDrained;
+
+
+    // ******************** Constructors **************************************
+    public MovingObjectLayer() {
+        this(DEFAULT_CAPACITY);
+    }
+    /**
+     * @param BUFFER_CAPACITY number of fixes that can be buffered between two pulses
+     */
+    public MovingObjectLayer(final int BUFFER_CAPACITY) {
+        BUFFER             = new PositionBuffer(BUFFER_CAPACITY);
+        APPLY_FIX          = this::applyFix;
+        slots              = new LongIntMap(1024);
+        ids                = new long[1024];
+        fromX              = new double[1024];
+        fromY              = new double[1024];
+        toX                = new double[1024];
+        toY                = new double[1024];
+        fixTimes           = new long[1024];
+        moveStart          = new long[1024];
+        interpolationNanos = 0;
+        color              = Color.web("#ff6600");
+        dotSize            = 4;
+        TIMER              = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(NOW); }
+        };
+        sceneProperty().addListener((o, oldScene, newScene) -> {
+            if (null == newScene) { TIMER.stop(); } else { TIMER.start(); }
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Offers a position fix, can be called from any thread and never blocks.
+     *
+     * @return false if the buffer was full and the fix has been dropped
+     */
+    public boolean offer(final long ID, final double LATITUDE, final double LONGITUDE, final long TIME) {
+        final World WORLD = world;
+        if (null != WORLD) {
+            final WorkloadRecorder RECORDER = WORLD.recorder;
+            if (null != RECORDER) { RECORDER.objectFix(this, ID, LATITUDE, LONGITUDE, TIME); }
+        }
+        return BUFFER.offer(ID, LATITUDE, LONGITUDE, TIME);
+    }
+
+    /**
+     * Removes the object with the given id, must be called on the FX thread.
+     */
+    public void remove(final long ID) {
+        final int SLOT = slots.get(ID);
+        if (SLOT < 0) { return; }
+        final int LAST = --size;
+        slots.remove(ID);
+        if (SLOT != LAST) {
+            // the last object takes the free slot
+            ids[SLOT]       = ids[LAST];
+            fromX[SLOT]     = fromX[LAST];
+            fromY[SLOT]     = fromY[LAST];
+            toX[SLOT]       = toX[LAST];
+            toY[SLOT]       = toY[LAST];
+            fixTimes[SLOT]  = fixTimes[LAST];
+            moveStart[SLOT] = moveStart[LAST];
+            slots.put(ids[SLOT], SLOT);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Removes all objects, fixes that are still buffered will be applied.
+     */
+    public void clear() {
+        slots = new LongIntMap(1024);
+        size  = 0;
+        dirty = true;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * @return the time of the latest fix of the given object or Long.MIN_VALUE if it is unknown
+     */
+    public long getFixTime(final long ID) {
+        final int SLOT = slots.get(ID);
+        return SLOT < 0 ? Long.MIN_VALUE : fixTimes[SLOT];
+    }
+
+    /**
+     * The time a dot needs to move to its new position, zero moves it at once.
+     */
+    public Duration getInterpolation() { return Duration.millis(interpolationNanos / 1_000_000.0); }
+    public void setInterpolation(final Duration DURATION) { interpolationNanos = Math.max(0, (long) (DURATION.toMillis() * 1_000_000)); }
+
+    public Color getColor() { return color; }
+    public void setColor(final Color COLOR) {
+        color = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * @return the size of the dots in screen pixels
+     */
+    public double getDotSize() { return dotSize; }
+    public void setDotSize(final double SIZE) {
+        dotSize = SIZE;
+        requestRedraw();
+    }
+
+    public PositionBuffer getBuffer() { return BUFFER; }
+
+    /**
+     * @return the number of fixes that have been applied to objects
+     */
+    public long getAppliedCount() { return appliedCount; }
+
+    /**
+     * @return the number of fixes that were replaced by a newer fix of the same object within one pulse or arrived out of order
+     */
+    public long getCoalescedCount() { return coalescedCount; }
+
+    /**
+     * @return the number of fixes drained in the last pulse
+     */
+    public int getLastDrained() { return lastDrained; }
+
+    private void pulse(final long NOW) {
+        now         = NOW;
+        lastDrained = BUFFER.drain(APPLY_FIX);
+        if (dirty || moving) {
+            // the first pulse after the last move ended draws the dots at their targets
+            moving = NOW < lastMoveEnd;
+            dirty  = false;
+            redraw();
+        }
+    }
+
+    private void applyFix(final long ID, final double LATITUDE, final double LONGITUDE, final long TIME) {
+        int slot = slots.get(ID);
+        if (slot >= 0 && TIME < fixTimes[slot]) {
+            // fixes that arrive out of order are older than what is shown already
+            coalescedCount++;
+            return;
+        }
+        final double X = Projection.toX(LONGITUDE);
+        final double Y = Projection.toY(LATITUDE);
+        if (slot < 0) {
+            slot = size;
+            ensureCapacity(slot + 1);
+            slots.put(ID, slot);
+            ids[slot]       = ID;
+            fromX[slot]     = X;
+            fromY[slot]     = Y;
+            fixTimes[slot]  = Long.MIN_VALUE;
+            moveStart[slot] = Long.MIN_VALUE;
+            size++;
+        } else if (moveStart[slot] == now) {
+            // a newer fix of the same object within this pulse replaces the older one
+            coalescedCount++;
+        } else {
+            // the move starts where the dot is drawn right now
+            final double F = fraction(slot);
+            fromX[slot] += (toX[slot] - fromX[slot]) * F;
+            fromY[slot] += (toY[slot] - fromY[slot]) * F;
+        }
+        toX[slot]       = X;
+        toY[slot]       = Y;
+        fixTimes[slot]  = TIME;
+        moveStart[slot] = now;
+        lastMoveEnd     = now + interpolationNanos;
+        moving          = true;
+        dirty           = true;
+        appliedCount++;
+    }
+
+    private double fraction(final int SLOT) {
+        if (0 == interpolationNanos || Long.MIN_VALUE == moveStart[SLOT]) { return 1; }
+        final double FRACTION = (now - moveStart[SLOT]) / (double) interpolationNanos;
+        return FRACTION >= 1 ? 1 : FRACTION;
+    }
+
+    @Override protected void draw(final GraphicsContext CTX) {
+        final double SIZE = dotSize * getPixelSize();
+        final double HALF = SIZE * 0.5;
+        CTX.setFill(color);
+        for (int slot = 0 ; slot < size ; slot++) {
+            final double F = fraction(slot);
+            final double X = fromX[slot] + (toX[slot] - fromX[slot]) * F;
+            final double Y = fromY[slot] + (toY[slot] - fromY[slot]) * F;
+            if (isInViewport(X, Y)) { CTX.fillRect(X - HALF, Y - HALF, SIZE, SIZE); }
+        }
+    }
+
+    private void ensureCapacity(final int CAPACITY) {
+        if (CAPACITY <= ids.length) { return; }
+        final int LENGTH = Math.max(CAPACITY, ids.length * 2);
+        ids       = Arrays.copyOf(ids, LENGTH);
+        fromX     = Arrays.copyOf(fromX, LENGTH);
+        fromY     = Arrays.copyOf(fromY, LENGTH);
+        toX       = Arrays.copyOf(toX, LENGTH);
+        toY       = Arrays.copyOf(toY, LENGTH);
+        fixTimes  = Arrays.copyOf(fixTimes, LENGTH);
+        moveStart = Arrays.copyOf(moveStart, LENGTH);
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Open addressing map from object id to slot, avoids boxing the ids.
+     * Long.MIN_VALUE marks free entries of the table, the value of this key
+     * is kept in a field of its own.
+     */
+    static final class LongIntMap {
+        private static final long    FREE = Long.MIN_VALUE;
+        private              long[]  keys;
+        private              int[]   values;
+        private              int     count;
+        private              boolean hasFreeKey;
+        private              int     freeKeyValue;
+
+        LongIntMap(final int CAPACITY) {
+            keys   = new long[Integer.highestOneBit(CAPACITY - 1) << 1];
+            values = new int[keys.length];
+            Arrays.fill(keys, FREE);
+        }
+
+        int get(final long KEY) {
+            if (FREE == KEY) { return hasFreeKey ? freeKeyValue : -1; }
+            final int MASK = keys.length - 1;
+            for (int i = hash(KEY) & MASK ; ; i = (i + 1) & MASK) {
+                if (keys[i] == KEY)  { return values[i]; }
+                if (keys[i] == FREE) { return -1; }
+            }
+        }
+
+        void put(final long KEY, final int VALUE) {
+            if (FREE == KEY) {
+                hasFreeKey   = true;
+                freeKeyValue = VALUE;
+                return;
+            }
+            if ((count + 1) * 2 > keys.length) { rehash(keys.length * 2); }
+            final int MASK = keys.length - 1;
+            int i = hash(KEY) & MASK;
+            while (keys[i] != FREE && keys[i] != KEY) { i = (i + 1) & MASK; }
+            if (keys[i] == FREE) { count++; }
+            keys[i]   = KEY;
+            values[i] = VALUE;
+        }
+
+        void remove(final long KEY) {
+            if (FREE == KEY) {
+                hasFreeKey = false;
+                return;
+            }
+            final int MASK = keys.length - 1;
+            int i = hash(KEY) & MASK;
+            while (keys[i] != KEY) {
+                if (keys[i] == FREE) { return; }
+                i = (i + 1) & MASK;
+            }
+            keys[i] = FREE;
+            count--;
+            // move the following entries of the probe sequence into the gap
+            for (int j = (i + 1) & MASK ; keys[j] != FREE ; j = (j + 1) & MASK) {
+                final int HOME = hash(keys[j]) & MASK;
+                if ((j > i && (HOME <= i || HOME > j)) || (j < i && HOME <= i && HOME > j)) {
+                    keys[i]   = keys[j];
+                    values[i] = values[j];
+                    keys[j]   = FREE;
+                    i = j;
+                }
+            }
+        }
+
+        int size() { return hasFreeKey ? count + 1 : count; }
+
+        private void rehash(final int CAPACITY) {
+            final long[] OLD_KEYS   = keys;
+            final int[]  OLD_VALUES = values;
+            keys   = new long[CAPACITY];
+            values = new int[CAPACITY];
+            count  = 0;
+            Arrays.fill(keys, FREE);
+            for (int i = 0 ; i < OLD_KEYS.length ; i++) {
+                if (OLD_KEYS[i] != FREE) { put(OLD_KEYS[i], OLD_VALUES[i]); }
+            }
+        }
+
+        private static int hash(final long KEY) {
+            final long H = KEY * 0x9E3779B97F4A7C15L;
+            return (int) (H ^ (H >>> 32));
+        }
+    }
+}
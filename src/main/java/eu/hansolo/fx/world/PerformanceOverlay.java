@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.Locale;
+
+
+/**
+ * Debug overlay of a World that shows frame rate, frame and pulse time,
+ * zoom and level of detail, culled countries, markers, the time of the
+ * last mouse event and the cache hit rates. It only reads counters the
+ * World keeps anyway and is redrawn four times a second while it is shown.
+ * The frame time is the interval between two pulses. The pulse time is
+ * the time the FX thread spends on a pulse from its animation phase to
+ * the end of CSS, layout and the sync with the render thread. The timer
+ * of the overlay keeps pulses coming at the display rate while it is
+ * shown, so the FPS are what the World could reach, not its idle rate.
+ */
+final class PerformanceOverlay extends Canvas {
+    private static final double         WIDTH           = 250;
+    private static final double         PADDING         = 6;
+    private static final double         LINE_HEIGHT     = 15;
+    private static final int            LINES           = 9;
+    private static final long           UPDATE_INTERVAL = 250_000_000L;
+    private static final Font           FONT            = Font.font("Monospaced", 11);
+    private static final Color          BACKGROUND      = Color.rgb(0, 0, 0, 0.65);
+    private        final World          WORLD;
+    private        final AnimationTimer TIMER;
+    private        final Runnable       PULSE_END;
+    private              long           lastFrame;
+    private              long           lastUpdate;
+    private              int            frames;
+    private              long           frameNanos;
+    private              long           maxFrameNanos;
+    private              long           pulseStart;
+    private              boolean        pulseEndPending;
+    private              int            pulses;
+    private              long           pulseNanos;
+    private              long           maxPulseNanos;
+
+
+    // ******************** Constructors **************************************
+    PerformanceOverlay(final World WORLD) {
+        super(WIDTH, 2 * PADDING + LINES * LINE_HEIGHT);
+        this.WORLD     = WORLD;
+        this.TIMER     = new AnimationTimer() {
+            @Override public void handle(final long NOW) { frame(NOW); }
+        };
+        this.PULSE_END = () -> pulseEnd();
+        setMouseTransparent(true);
+        setManaged(false);
+        relocate(PADDING, PADDING);
+    }
+
+
+    // ******************** Methods *******************************************
+    void start() {
+        lastFrame  = 0;
+        lastUpdate = 0;
+        resetFrames();
+        TIMER.start();
+    }
+
+    void stop() { TIMER.stop(); }
+
+    private void frame(final long NOW) {
+        // runnables queued during a pulse only run after it, this one measures the rest of the pulse
+        pulseStart = System.nanoTime();
+        if (!pulseEndPending) {
+            pulseEndPending = true;
+            Platform.runLater(PULSE_END);
+        }
+        if (lastFrame > 0) {
+            final long DELTA = NOW - lastFrame;
+            frames++;
+            frameNanos   += DELTA;
+            maxFrameNanos = Math.max(maxFrameNanos, DELTA);
+        }
+        lastFrame = NOW;
+        if (0 == lastUpdate) { lastUpdate = NOW; }
+        if (NOW - lastUpdate < UPDATE_INTERVAL) { return; }
+
+        final double FPS       = frames * 1e9 / (NOW - lastUpdate);
+        final double AVG_FRAME = 0 == frames ? 0 : frameNanos / 1e6 / frames;
+        final double MAX_FRAME = maxFrameNanos / 1e6;
+        final double AVG_PULSE = 0 == pulses ? 0 : pulseNanos / 1e6 / pulses;
+        final double MAX_PULSE = maxPulseNanos / 1e6;
+        lastUpdate = NOW;
+        resetFrames();
+        draw(FPS, AVG_FRAME, MAX_FRAME, AVG_PULSE, MAX_PULSE);
+    }
+
+    private void pulseEnd() {
+        pulseEndPending = false;
+        final long DURATION = System.nanoTime() - pulseStart;
+        pulses++;
+        pulseNanos   += DURATION;
+        maxPulseNanos = Math.max(maxPulseNanos, DURATION);
+    }
+
+    private void resetFrames() {
+        frames        = 0;
+        frameNanos    = 0;
+        maxFrameNanos = 0;
+        pulses        = 0;
+        pulseNanos    = 0;
+        maxPulseNanos = 0;
+    }
+
+    private void draw(final double FPS, final double AVG_FRAME, final double MAX_FRAME, final double AVG_PULSE, final double MAX_PULSE) {
+        final int  PATHS         = WORLD.getCountryPathCount();
+        final int  VISIBLE_PATHS = WORLD.isViewportCulling() ? WORLD.getVisibleCountryPathCount() : PATHS;
+        long       layerHits     = 0;
+        long       layerMisses   = 0;
+        for (Node layer : WORLD.layers.getChildren()) {
+            layerHits   += ((MapLayer) layer).getCacheHitCount();
+            layerMisses += ((MapLayer) layer).getCacheMissCount();
+        }
+        final TooltipService TOOLTIPS = WORLD.getTooltipService();
+        final String[]       LINES    = {
+            String.format(Locale.US, "FPS          %6.1f", FPS),
+            String.format(Locale.US, "Frame time   %6.1f avg %6.1f max ms", AVG_FRAME, MAX_FRAME),
+            String.format(Locale.US, "Pulse        %6.1f avg %6.1f max ms", AVG_PULSE, MAX_PULSE),
+            String.format(Locale.US, "Zoom         %6.2fx LOD %s, %d tiles uncached", WORLD.getZoomFactor(), WORLD.countryLayer.isInteractive() ? "scaled" : "full", WORLD.countryLayer.getUncachedTileCount()),
+            String.format(Locale.US, "Countries    %6d visible %d culled", VISIBLE_PATHS, PATHS - VISIBLE_PATHS),
+            String.format(Locale.US, "Markers      %6d", WORLD.locations.size()),
+            String.format(Locale.US, "Mouse event  %6.3f ms", WORLD.getMetrics().getLastMouseEventNanos() / 1e6),
+            "Tooltip cache " + hitRate(TOOLTIPS.getCacheHitCount(), TOOLTIPS.getCacheMissCount()),
+            "Layer cache   " + hitRate(layerHits, layerMisses)
+        };
+
+        final GraphicsContext CTX = getGraphicsContext2D();
+        CTX.clearRect(0, 0, getWidth(), getHeight());
+        CTX.setFill(BACKGROUND);
+        CTX.fillRoundRect(0, 0, getWidth(), getHeight(), 6, 6);
+        CTX.setFill(Color.WHITE);
+        CTX.setFont(FONT);
+        CTX.setTextBaseline(VPos.TOP);
+        for (int i = 0 ; i < LINES.length ; i++) { CTX.fillText(LINES[i], PADDING, PADDING + i * LINE_HEIGHT); }
+    }
+
+    private static String hitRate(final long HITS, final long MISSES) {
+        final long TOTAL = HITS + MISSES;
+        return 0 == TOTAL ? "  n/a" : String.format(Locale.US, "%5.1f%% of %d", HITS * 100.0 / TOTAL, TOTAL);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Bounded lock-free ring buffer of position fixes (id, latitude, longitude,
+ * time) with any number of producer threads and one consumer. The fixes
+ * are stored in primitive arrays, offering a fix neither allocates nor
+ * blocks: if the buffer is full the fix is dropped and counted.
+ */
+public class PositionBuffer {
+    private final int             CAPACITY;
+    private final int             MASK;
+    private final long[]          IDS;
+    private final double[]        LATITUDES;
+    private final double[]        LONGITUDES;
+    private final long[]          TIMES;
+    // sequence of each slot, tells producers and the consumer whose turn it is
+    private final AtomicLongArray SEQUENCES;
+    private final AtomicLong      HEAD;
+    private final LongAdder       DROPPED;
+    private       long            tail;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param CAPACITY number of fixes the buffer can hold, rounded up to a power of two
+     */
+    public PositionBuffer(final int CAPACITY) {
+        if (CAPACITY < 2 || CAPACITY > 1 << 30) { throw new IllegalArgumentException("Capacity must be between 2 and 2^30"); }
+        this.CAPACITY   = Integer.highestOneBit(CAPACITY - 1) << 1;
+        this.MASK       = this.CAPACITY - 1;
+        this.IDS        = new long[this.CAPACITY];
+        this.LATITUDES  = new double[this.CAPACITY];
+        this.LONGITUDES = new double[this.CAPACITY];
+        this.TIMES      = new long[this.CAPACITY];
+        this.SEQUENCES  = new AtomicLongArray(this.CAPACITY);
+        this.HEAD       = new AtomicLong();
+        this.DROPPED    = new LongAdder();
+        for (int i = 0 ; i < this.CAPACITY ; i++) { SEQUENCES.set(i, i); }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds a fix, can be called from any thread.
+     *
+     * @return false if the buffer was full and the fix has been dropped
+     */
+    public boolean offer(final long ID, final double LATITUDE, final double LONGITUDE, final long TIME) {
+        long position;
+        while (true) {
+            position = HEAD.get();
+            final long DIFFERENCE = SEQUENCES.get((int) position & MASK) - position;
+            if (0 == DIFFERENCE) {
+                if (HEAD.compareAndSet(position, position + 1)) { break; }
+            } else if (DIFFERENCE < 0) {
+                DROPPED.increment();
+                return false;
+            }
+        }
+        final int INDEX = (int) position & MASK;
+        IDS[INDEX]        = ID;
+        LATITUDES[INDEX]  = LATITUDE;
+        LONGITUDES[INDEX] = LONGITUDE;
+        TIMES[INDEX]      = TIME;
+        // publishes the fix to the consumer
+        SEQUENCES.lazySet(INDEX, position + 1);
+        return true;
+    }
+
+    /**
+     * Hands all available fixes in the order they were offered to the given
+     * consumer, must only be called by one thread at a time.
+     *
+     * @return the number of fixes
+     */
+    public int drain(final PositionConsumer CONSUMER) {
+        int count = 0;
+        while (true) {
+            final int INDEX = (int) tail & MASK;
+            if (SEQUENCES.get(INDEX) != tail + 1) { return count; }
+            CONSUMER.accept(IDS[INDEX], LATITUDES[INDEX], LONGITUDES[INDEX], TIMES[INDEX]);
+            // frees the slot for the producers
+            SEQUENCES.lazySet(INDEX, tail + CAPACITY);
+            tail++;
+            count++;
+        }
+    }
+
+    public int getCapacity() { return CAPACITY; }
+
+    /**
+     * @return the number of fixes that are waiting to be drained
+     */
+    public int size() { return (int) Math.max(0, Math.min(CAPACITY, HEAD.get() - tail)); }
+
+    /**
+     * @return the number of fixes that have been dropped because the buffer was full
+     */
+    public long getDroppedCount() { return DROPPED.sum(); }
+
+
+    // ******************** Inner Classes *************************************
+    @FunctionalInterface public interface PositionConsumer {
+        void accept(long ID, double LATITUDE, double LONGITUDE, long TIME);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+/**
+ * The Mercator projection of the map, converts latitude and longitude to
+ * the coordinate system of the country paths (1009 x 665).
+ */
+public final class Projection {
+    public  static final double MAP_WIDTH  = 1009;
+    public  static final double MAP_HEIGHT = 665;
+    private static final double OFFSET_X   = -MAP_WIDTH * 0.0285;
+    private static final double OFFSET_Y   = MAP_HEIGHT * 0.195;
+    private static final double MAX_LAT    = 85.0511;
+
+
+    // ******************** Constructors **************************************
+    private Projection() {}
+
+
+    // ******************** Methods *******************************************
+    public static double toX(final double LONGITUDE) {
+        return (LONGITUDE + 180) * (MAP_WIDTH / 360) + OFFSET_X;
+    }
+
+    /**
+     * Latitudes beyond +-85.05 degrees are clamped, Mercator is infinite at the poles.
+     */
+    public static double toY(final double LATITUDE) {
+        final double LAT = LATITUDE > MAX_LAT ? MAX_LAT : (LATITUDE < -MAX_LAT ? -MAX_LAT : LATITUDE);
+        return (MAP_HEIGHT / 2) - (MAP_WIDTH * (Math.log(Math.tan((Math.PI / 4) + (Math.toRadians(LAT) / 2)))) / (2 * Math.PI)) + OFFSET_Y;
+    }
+
+    public static double toLongitude(final double X) {
+        return (X - OFFSET_X) / (MAP_WIDTH / 360) - 180;
+    }
+
+    public static double toLatitude(final double Y) {
+        return Math.toDegrees(2 * Math.atan(Math.exp((MAP_HEIGHT / 2 + OFFSET_Y - Y) * 2 * Math.PI / MAP_WIDTH)) - Math.PI / 2);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Draws great-circle routes between pairs of locations. Each arc is cut
+ * into more segments the longer it is, the closer it gets to the poles
+ * and the more the map is zoomed in (level of detail). Arcs are split
+ * where they cross the antimeridian. The projected polylines are cached
+ * per route and level of detail, so redrawing after a resize or pan costs
+ * no trigonometry; the unit vectors of the endpoints are shared by all
+ * routes that start or end at the same location. Each endpoint knows its
+ * routes, so moving a location only touches the routes attached to it.
+ */
+public class RouteLayer extends MapLayer {
+    private static final int                     MAX_LOD          = 5;
+    private static final double                  BASE_STEP        = Math.toRadians(8);
+    private static final int                     MAX_SEGMENTS     = 512;
+    private static final double                  MAX_LAT_FACTOR   = 4;
+    private        final List<Route>             ROUTES;
+    private        final Map<Location, Endpoint> ENDPOINTS;
+    private              Color                   color;
+    private              double                  lineWidth;
+    private              int                     lastDrawnCount;
+    private              long                    cacheHitCount;
+    private              long                    cacheMissCount;
+
+
+    // ******************** Constructors **************************************
+    public RouteLayer() {
+        ROUTES    = new ArrayList<>();
+        ENDPOINTS = new HashMap<>();
+        color     = Color.web("#ffffff", 0.6);
+        lineWidth = 1;
+    }
+
+
+    // ******************** Methods *******************************************
+    public void addRoute(final Location FROM, final Location TO) {
+        final Route ROUTE = new Route(endpoint(FROM), endpoint(TO));
+        ROUTE.FROM.ROUTES.add(ROUTE);
+        ROUTE.TO.ROUTES.add(ROUTE);
+        ROUTES.add(ROUTE);
+        requestRedraw();
+    }
+
+    public void removeRoute(final Location FROM, final Location TO) {
+        final Endpoint ENDPOINT = ENDPOINTS.get(FROM);
+        if (null == ENDPOINT) { return; }
+        for (Route route : ENDPOINT.ROUTES) {
+            if (route.FROM == ENDPOINT && route.TO.LOCATION == TO) {
+                ROUTES.remove(route);
+                detach(route.FROM, route);
+                detach(route.TO, route);
+                requestRedraw();
+                return;
+            }
+        }
+    }
+
+    public void clearRoutes() {
+        ROUTES.clear();
+        ENDPOINTS.clear();
+        requestRedraw();
+    }
+
+    public int getRouteCount() { return ROUTES.size(); }
+
+    /**
+     * @return the number of routes that were drawn in the last frame
+     */
+    public int getLastDrawnCount() { return lastDrawnCount; }
+
+    public Color getColor() { return color; }
+    public void setColor(final Color COLOR) {
+        color = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * @return the width of the routes in screen pixels
+     */
+    public double getLineWidth() { return lineWidth; }
+    public void setLineWidth(final double WIDTH) {
+        lineWidth = WIDTH;
+        requestRedraw();
+    }
+
+    @Override public long getCacheHitCount() { return cacheHitCount; }
+    @Override public long getCacheMissCount() { return cacheMissCount; }
+
+    @Override protected void locationMoved(final Location LOCATION) {
+        final Endpoint ENDPOINT = ENDPOINTS.get(LOCATION);
+        if (null == ENDPOINT) { return; }
+        ENDPOINT.update();
+        for (Route route : ENDPOINT.ROUTES) { route.invalidate(); }
+        requestRedraw();
+    }
+
+    @Override protected void draw(final GraphicsContext CTX) {
+        lastDrawnCount = 0;
+        if (ROUTES.isEmpty()) { return; }
+        final double PIXEL = getPixelSize();
+        final int    LOD   = (int) Math.max(0, Math.min(MAX_LOD, Math.round(-Math.log(PIXEL) / Math.log(2))));
+        final double MIN_X = getViewport().getMinX();
+        final double MIN_Y = getViewport().getMinY();
+        final double MAX_X = getViewport().getMaxX();
+        final double MAX_Y = getViewport().getMaxY();
+        CTX.setStroke(color);
+        CTX.setLineWidth(lineWidth * PIXEL);
+        // all routes go into one path that is stroked once
+        CTX.beginPath();
+        for (Route route : ROUTES) {
+            if (route.isCached(LOD)) { cacheHitCount++; } else { cacheMissCount++; }
+            final double[][] PARTS  = route.getPolyline(LOD);
+            final double[]   BOUNDS = PARTS[PARTS.length - 1];
+            if (BOUNDS[2] < MIN_X || BOUNDS[0] > MAX_X || BOUNDS[3] < MIN_Y || BOUNDS[1] > MAX_Y) { continue; }
+            for (int p = 0 ; p < PARTS.length - 1 ; p++) {
+                final double[] PART = PARTS[p];
+                CTX.moveTo(PART[0], PART[1]);
+                for (int i = 2 ; i < PART.length ; i += 2) { CTX.lineTo(PART[i], PART[i + 1]); }
+            }
+            lastDrawnCount++;
+        }
+        CTX.stroke();
+    }
+
+    private Endpoint endpoint(final Location LOCATION) {
+        Endpoint endpoint = ENDPOINTS.get(LOCATION);
+        if (null == endpoint) {
+            endpoint = new Endpoint(LOCATION);
+            ENDPOINTS.put(LOCATION, endpoint);
+        }
+        return endpoint;
+    }
+
+    private void detach(final Endpoint ENDPOINT, final Route ROUTE) {
+        ENDPOINT.ROUTES.remove(ROUTE);
+        if (ENDPOINT.ROUTES.isEmpty()) { ENDPOINTS.remove(ENDPOINT.LOCATION); }
+    }
+
+    /**
+     * Cuts the great-circle arc between the two endpoints into segments and
+     * projects them. Returns the parts of the polyline (more than one if
+     * the arc crosses the antimeridian) followed by its bounds.
+     */
+    private static double[][] tessellate(final Endpoint FROM, final Endpoint TO, final int LOD) {
+        final double DOT        = FROM.x * TO.x + FROM.y * TO.y + FROM.z * TO.z;
+        final double CROSS_X    = FROM.y * TO.z - FROM.z * TO.y;
+        final double CROSS_Y    = FROM.z * TO.x - FROM.x * TO.z;
+        final double CROSS_Z    = FROM.x * TO.y - FROM.y * TO.x;
+        final double SIN_D      = Math.sqrt(CROSS_X * CROSS_X + CROSS_Y * CROSS_Y + CROSS_Z * CROSS_Z);
+        final double D          = Math.atan2(SIN_D, DOT);
+        // near the poles Mercator stretches the arc, it needs more segments there
+        final double MAX_LAT    = Math.max(Math.abs(FROM.lat), Math.max(Math.abs(TO.lat), Math.abs(midLatitude(FROM, TO))));
+        final double LAT_FACTOR = Math.min(MAX_LAT_FACTOR, 1 / Math.max(1e-6, Math.cos(MAX_LAT)));
+        final int    SEGMENTS   = SIN_D < 1e-9 ? 1 : (int) Math.max(2, Math.min(MAX_SEGMENTS, Math.ceil(D / (BASE_STEP / (1 << LOD)) * LAT_FACTOR)));
+
+        final List<double[]> PARTS = new ArrayList<>(2);
+        double[] part    = new double[2 * (SEGMENTS + 1)];
+        int      size    = 0;
+        double   lastLon = FROM.lon;
+        double   lastLat = FROM.lat;
+        for (int i = 0 ; i <= SEGMENTS ; i++) {
+            double lat = FROM.lat;
+            double lon = FROM.lon;
+            if (i == SEGMENTS) {
+                lat = TO.lat;
+                lon = TO.lon;
+            } else if (i > 0) {
+                final double F = i / (double) SEGMENTS;
+                final double A = Math.sin((1 - F) * D) / SIN_D;
+                final double B = Math.sin(F * D) / SIN_D;
+                final double X = A * FROM.x + B * TO.x;
+                final double Y = A * FROM.y + B * TO.y;
+                final double Z = A * FROM.z + B * TO.z;
+                lat = Math.atan2(Z, Math.sqrt(X * X + Y * Y));
+                lon = Math.atan2(Y, X);
+            }
+            if (i > 0 && Math.abs(lon - lastLon) > Math.PI) {
+                // the arc crosses the antimeridian, end this part at one edge of the map and start the next one at the other
+                final double EDGE     = lastLon > 0 ? Math.PI : -Math.PI;
+                final double SPAN     = (lon + 2 * EDGE) - lastLon;
+                final double CROSSING = lastLat + (lat - lastLat) * ((EDGE - lastLon) / SPAN);
+                part = add(part, size, EDGE, CROSSING);
+                size += 2;
+                PARTS.add(Arrays.copyOf(part, size));
+                size = 0;
+                part = add(part, size, -EDGE, CROSSING);
+                size += 2;
+            }
+            part = add(part, size, lon, lat);
+            size += 2;
+            lastLon = lon;
+            lastLat = lat;
+        }
+        PARTS.add(Arrays.copyOf(part, size));
+
+        final double[] BOUNDS = { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+        for (double[] p : PARTS) {
+            for (int i = 0 ; i < p.length ; i += 2) {
+                BOUNDS[0] = Math.min(BOUNDS[0], p[i]);
+                BOUNDS[1] = Math.min(BOUNDS[1], p[i + 1]);
+                BOUNDS[2] = Math.max(BOUNDS[2], p[i]);
+                BOUNDS[3] = Math.max(BOUNDS[3], p[i + 1]);
+            }
+        }
+        PARTS.add(BOUNDS);
+        return PARTS.toArray(new double[PARTS.size()][]);
+    }
+
+    /**
+     * Adds the projection of the given point (in radians) to the part.
+     */
+    private static double[] add(final double[] PART, final int SIZE, final double LON, final double LAT) {
+        final double[] TARGET = SIZE + 2 > PART.length ? Arrays.copyOf(PART, PART.length * 2) : PART;
+        TARGET[SIZE]     = Projection.toX(Math.toDegrees(LON));
+        TARGET[SIZE + 1] = Projection.toY(Math.toDegrees(LAT));
+        return TARGET;
+    }
+
+    private static double midLatitude(final Endpoint FROM, final Endpoint TO) {
+        final double X = FROM.x + TO.x;
+        final double Y = FROM.y + TO.y;
+        final double Z = FROM.z + TO.z;
+        return Math.atan2(Z, Math.sqrt(X * X + Y * Y));
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Endpoint {
+        private final Location    LOCATION;
+        // routes that start or end here, a route from a location to itself is contained twice
+        private final List<Route> ROUTES;
+        private       double      lat;
+        private       double      lon;
+        private       double      x;
+        private       double      y;
+        private       double      z;
+
+        private Endpoint(final Location LOCATION) {
+            this.LOCATION = LOCATION;
+            this.ROUTES   = new ArrayList<>(2);
+            update();
+        }
+
+        private void update() {
+            final Location.Position POSITION = LOCATION.getPosition();
+            lat = Math.toRadians(POSITION.LATITUDE);
+            lon = Math.toRadians(POSITION.LONGITUDE);
+            x   = Math.cos(lat) * Math.cos(lon);
+            y   = Math.cos(lat) * Math.sin(lon);
+            z   = Math.sin(lat);
+        }
+    }
+
+    private static final class Route {
+        private final Endpoint     FROM;
+        private final Endpoint     TO;
+        private final double[][][] POLYLINES;
+
+        private Route(final Endpoint FROM, final Endpoint TO) {
+            this.FROM      = FROM;
+            this.TO        = TO;
+            this.POLYLINES = new double[MAX_LOD + 1][][];
+        }
+
+        private double[][] getPolyline(final int LOD) {
+            if (null == POLYLINES[LOD]) { POLYLINES[LOD] = tessellate(FROM, TO, LOD); }
+            return POLYLINES[LOD];
+        }
+
+        private boolean isCached(final int LOD) { return null != POLYLINES[LOD]; }
+
+        private void invalidate() { Arrays.fill(POLYLINES, null); }
+    }
+}
@@ -28,6 +28,7 @@
 package eu.hansolo.fx.world;
 
 import javafx.beans.DefaultProperty;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
@@ -36,16 +37,15 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
-import javafx.collections.ListChangeListener;
-import javafx.geometry.Bounds;
 import javafx.scene.Node;
-import javafx.scene.Parent;
 import javafx.scene.layout.Pane;
 
 import javafx.scene.layout.Region;
 
 import javafx.scene.transform.Scale;
 
+import java.util.concurrent.atomic.LongAdder;
+
 
 /**
  * Scales content to always fit in the bounds of this pane. Useful for workflows
@@ -69,22 +69,29 @@ public class ScalableContentPane extends Region {
     private       boolean                       autoRescale         = true;
     private       Scale                         contentScaleTransform;
     private       boolean                       manualReset;
+    private       int                           updateCount;
+    private       boolean                       rescalePending;
+    private final InvalidationListener          contentBoundsListener = o -> contentBoundsChanged();
+    private final LongAdder                     layoutCount           = new LongAdder();
+    private final LongAdder                     computeScaleNanos     = new LongAdder();
 
 
     /**
      * Constructor.
      */
     public ScalableContentPane() {
+        contentScaleTransform = new Scale(1, 1);
+        getContentScaleTransform().setPivotX(0);
+        getContentScaleTransform().setPivotY(0);
+        getContentScaleTransform().setPivotZ(0);
+
         setContent(new Pane());
 
-        needsLayoutProperty().addListener((ov, oldV, newV) -> {
-            if (newV && (getWidth() <= getPrefWidth() ||
-                         getHeight() <= getPrefHeight()) ||
-                         getPrefWidth() == USE_COMPUTED_SIZE ||
-                         getPrefHeight() == USE_COMPUTED_SIZE) {
-                computeScale();
-            }
-        });
+        ChangeListener<Number> changeListener = (ov, oldValue, newValue) -> requestScale();
+        minScaleXProperty().addListener(changeListener);
+        minScaleYProperty().addListener(changeListener);
+        maxScaleXProperty().addListener(changeListener);
+        maxScaleYProperty().addListener(changeListener);
 
         fitToWidthProperty().addListener((ov, oldValue, newValue) -> requestLayout());
         fitToHeightProperty().addListener((ov, oldValue, newValue) -> requestLayout());
@@ -113,26 +120,20 @@ public class ScalableContentPane extends Region {
      * @param content content node to scale
      */
     public final void setContent(Node content) {
+        Node oldContent = getContent();
+        if (null != oldContent) {
+            oldContent.boundsInLocalProperty().removeListener(contentBoundsListener);
+            oldContent.getTransforms().remove(getContentScaleTransform());
+        }
+
         contentPaneProperty.setValue(content);
         content.setManaged(false);
-        initContentPaneListener();
+        content.getTransforms().add(getContentScaleTransform());
+        // one listener on the content instead of listeners on each of its children
+        content.boundsInLocalProperty().addListener(contentBoundsListener);
 
-        contentScaleTransform = new Scale(1, 1);
-        getContentScaleTransform().setPivotX(0);
-        getContentScaleTransform().setPivotY(0);
-        getContentScaleTransform().setPivotZ(0);
-        getContent().getTransforms().add(getContentScaleTransform());
-
-        getChildren().add(content);
-
-        ChangeListener<Number> changeListener = (ov, oldValue, newValue) -> requestScale();
-
-        getContentScaleTransform().setOnTransformChanged((event) -> requestLayout());
-
-        minScaleXProperty().addListener(changeListener);
-        minScaleYProperty().addListener(changeListener);
-        maxScaleXProperty().addListener(changeListener);
-        maxScaleYProperty().addListener(changeListener);
+        getChildren().setAll(content);
+        requestScale();
     }
 
     /**
@@ -149,7 +150,15 @@ public class ScalableContentPane extends Region {
      */
     public final Scale getContentScaleTransform() { return contentScaleTransform; }
 
-    @Override protected void layoutChildren() { super.layoutChildren(); }
+    @Override protected void layoutChildren() {
+        super.layoutChildren();
+        final long START = System.nanoTime();
+        computeScale();
+        computeScaleNanos.add(System.nanoTime() - START);
+        layoutCount.increment();
+        // validates the bounds again so that the next change of the content fires the listener
+        getContent().getBoundsInLocal();
+    }
 
     private void computeScale() {
         double realWidth     = getContent().prefWidth(getLayoutBounds().getHeight());
@@ -220,8 +229,62 @@ public class ScalableContentPane extends Region {
      * Requests scale computation. <b>Note:</b> Usually, this will be performed
      * automatically. If calling this method is necessary, it is likely that you
      * found a bug that should probably be reported.
+     * The scale is computed once in the next layout pass, no matter how often
+     * it was requested.
      */
-    public void requestScale() { computeScale(); }
+    public void requestScale() {
+        if (!isNeedsLayout()) { requestLayout(); }
+    }
+
+    /**
+     * Suspends the automatic rescaling on changes of the content until
+     * {@link #endUpdate()} is called. Use this around bulk changes like adding
+     * thousands of nodes to the content. Calls can be nested.
+     */
+    public void beginUpdate() { updateCount++; }
+
+    /**
+     * Ends an update that was started with {@link #beginUpdate()} and requests
+     * one rescale if the content changed in the meantime.
+     */
+    public void endUpdate() {
+        if (0 == updateCount) { return; }
+        updateCount--;
+        if (0 == updateCount && rescalePending) {
+            rescalePending = false;
+            requestScale();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if an update started with {@link #beginUpdate()}
+     * is in progress
+     */
+    public boolean isUpdating() { return updateCount > 0; }
+
+    /**
+     * @return the number of layout passes of this pane
+     */
+    public long getLayoutCount() { return layoutCount.sum(); }
+
+    /**
+     * @return the total time spent in computing the scale in nanoseconds
+     */
+    public long getComputeScaleNanos() { return computeScaleNanos.sum(); }
+
+    public void resetStatistics() {
+        layoutCount.reset();
+        computeScaleNanos.reset();
+    }
+
+    private void contentBoundsChanged() {
+        if (!isAutoRescale()) { return; }
+        if (isUpdating()) {
+            rescalePending = true;
+        } else {
+            requestScale();
+        }
+    }
 
     /**
      * Resets the scale that is applied to the content node.
@@ -262,55 +325,6 @@ public class ScalableContentPane extends Region {
         return result;
     }
 
-    private void initContentPaneListener() {
-        final ChangeListener<Bounds> boundsListener =
-            (ov, oldValue, newValue) -> {
-                if (isAutoRescale()) {
-                    setNeedsLayout(false);
-                    if (getContent() instanceof Region) { ((Region) getContent()).requestLayout(); }
-                    requestLayout();
-                }
-            };
-
-        final ChangeListener<Number> numberListener =
-            (ov, oldValue, newValue) -> {
-                if (isAutoRescale()) {
-                    setNeedsLayout(false);
-                    if (getContent() instanceof Parent) { ((Parent) getContent()).requestLayout(); }
-                    requestLayout();
-                }
-            };
-
-        if (getContent() instanceof Pane) {
-            ((Pane) getContent()).getChildren().addListener(
-                (ListChangeListener.Change<? extends Node> c) -> {
-                    while (c.next()) {
-                        // TODO handle permutation
-//                if (c.wasPermutated()) {
-//                    for (int i = c.getFrom(); i < c.getTo(); ++i) {
-//                        //permutate
-//                    }
-//                } else if (c.wasUpdated()) {
-//                    //update item
-//                } else
-                        if (c.wasRemoved()) {
-                            for (Node n : c.getRemoved()) {
-                                n.boundsInLocalProperty().removeListener(boundsListener);
-                                n.layoutXProperty().removeListener(numberListener);
-                                n.layoutYProperty().removeListener(numberListener);
-                            }
-                        } else if (c.wasAdded()) {
-                            for (Node n : c.getAddedSubList()) {
-                                n.boundsInLocalProperty().addListener(boundsListener);
-                                n.layoutXProperty().addListener(numberListener);
-                                n.layoutYProperty().addListener(numberListener);
-                            }
-                        }
-                    }
-                });
-        }
-    }
-
     /**
      * Defines whether to keep aspect ration when scaling content.
      *
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+/**
+ * A loose quadtree of axis aligned bounding boxes that answers rectangle
+ * queries in O(log n + k). Every node accepts items whose center lies in
+ * its quadrant and that are not larger than the quadrant, its loose bounds
+ * extend the quadrant by half its size on each side. So items that straddle
+ * the border of two quadrants still sink down the tree instead of piling up
+ * in the parent nodes. Items are removed in O(1).
+ */
+public class SpatialIndex<T> {
+    private static final int              MAX_ITEMS = 8;
+    private static final int              MAX_DEPTH = 10;
+    private        final Quad<T>          root;
+    private        final Map<T, Entry<T>> entries;
+
+
+    // ******************** Constructors **************************************
+    public SpatialIndex(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+        root    = new Quad<>(MIN_X, MIN_Y, MAX_X, MAX_Y, 0);
+        entries = new HashMap<>();
+    }
+
+
+    // ******************** Methods *******************************************
+    public void add(final T ITEM, final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+        remove(ITEM);
+        Entry<T> entry = new Entry<>(ITEM, MIN_X, MIN_Y, MAX_X, MAX_Y);
+        entries.put(ITEM, entry);
+        root.insert(entry);
+    }
+
+    public void remove(final T ITEM) {
+        Entry<T> entry = entries.remove(ITEM);
+        if (null != entry) { entry.quad.remove(entry); }
+    }
+
+    public boolean contains(final T ITEM) { return entries.containsKey(ITEM); }
+
+    /**
+     * @return true if the bounds of the given item intersect the given rectangle, false if it is not in the index
+     */
+    public boolean intersects(final T ITEM, final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+        final Entry<T> ENTRY = entries.get(ITEM);
+        return null != ENTRY && ENTRY.intersects(MIN_X, MIN_Y, MAX_X, MAX_Y);
+    }
+
+    public int size() { return entries.size(); }
+
+    public void clear() {
+        entries.clear();
+        root.clear();
+    }
+
+    /**
+     * Calls the given consumer for every item whose bounds intersect the
+     * given rectangle.
+     */
+    public void query(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y, final Consumer<T> CONSUMER) {
+        root.query(MIN_X, MIN_Y, MAX_X, MAX_Y, CONSUMER);
+    }
+
+    public void forEach(final Consumer<T> CONSUMER) { entries.keySet().forEach(CONSUMER); }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Entry<T> {
+        private final T       item;
+        private final double  minX;
+        private final double  minY;
+        private final double  maxX;
+        private final double  maxY;
+        private       Quad<T> quad;
+        // position in the item list of the quad
+        private       int     slot;
+
+
+        private Entry(final T ITEM, final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+            item = ITEM;
+            minX = MIN_X;
+            minY = MIN_Y;
+            maxX = MAX_X;
+            maxY = MAX_Y;
+        }
+
+
+        private boolean intersects(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y) {
+            return maxX >= MIN_X && minX <= MAX_X && maxY >= MIN_Y && minY <= MAX_Y;
+        }
+    }
+
+    private static final class Quad<T> {
+        private final double         minX;
+        private final double         minY;
+        private final double         maxX;
+        private final double         maxY;
+        // the quadrant extended by half its size on each side, every item of the subtree lies within
+        private final double         looseMinX;
+        private final double         looseMinY;
+        private final double         looseMaxX;
+        private final double         looseMaxY;
+        private final int            depth;
+        private final List<Entry<T>> items;
+        private       Quad<T>[]      children;
+
+
+        private Quad(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y, final int DEPTH) {
+            minX      = MIN_X;
+            minY      = MIN_Y;
+            maxX      = MAX_X;
+            maxY      = MAX_Y;
+            looseMinX = MIN_X - (MAX_X - MIN_X) * 0.5;
+            looseMinY = MIN_Y - (MAX_Y - MIN_Y) * 0.5;
+            looseMaxX = MAX_X + (MAX_X - MIN_X) * 0.5;
+            looseMaxY = MAX_Y + (MAX_Y - MIN_Y) * 0.5;
+            depth     = DEPTH;
+            items     = new ArrayList<>();
+        }
+
+
+        private void insert(final Entry<T> ENTRY) {
+            if (null != children) {
+                Quad<T> child = childFor(ENTRY);
+                if (null != child) {
+                    child.insert(ENTRY);
+                    return;
+                }
+            }
+            ENTRY.quad = this;
+            ENTRY.slot = items.size();
+            items.add(ENTRY);
+            if (null == children && items.size() > MAX_ITEMS && depth < MAX_DEPTH) { split(); }
+        }
+
+        private void split() {
+            final double CENTER_X = (minX + maxX) * 0.5;
+            final double CENTER_Y = (minY + maxY) * 0.5;
+            // generic arrays can't be created, the raw array only ever holds Quad<T>
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            final Quad<T>[] CHILDREN = new Quad[4];
+            CHILDREN[0] = new Quad<>(minX, minY, CENTER_X, CENTER_Y, depth + 1);
+            CHILDREN[1] = new Quad<>(CENTER_X, minY, maxX, CENTER_Y, depth + 1);
+            CHILDREN[2] = new Quad<>(minX, CENTER_Y, CENTER_X, maxY, depth + 1);
+            CHILDREN[3] = new Quad<>(CENTER_X, CENTER_Y, maxX, maxY, depth + 1);
+            children = CHILDREN;
+            List<Entry<T>> entries = new ArrayList<>(items);
+            items.clear();
+            for (Entry<T> entry : entries) { insert(entry); }
+        }
+
+        private void remove(final Entry<T> ENTRY) {
+            // the last item takes the slot of the removed one
+            final Entry<T> LAST = items.remove(items.size() - 1);
+            if (LAST != ENTRY) {
+                items.set(ENTRY.slot, LAST);
+                LAST.slot = ENTRY.slot;
+            }
+        }
+
+        private Quad<T> childFor(final Entry<T> ENTRY) {
+            final double CENTER_X = (ENTRY.minX + ENTRY.maxX) * 0.5;
+            final double CENTER_Y = (ENTRY.minY + ENTRY.maxY) * 0.5;
+            if (ENTRY.maxX - ENTRY.minX > (maxX - minX) * 0.5 || ENTRY.maxY - ENTRY.minY > (maxY - minY) * 0.5) { return null; }
+            for (Quad<T> child : children) {
+                if (CENTER_X >= child.minX && CENTER_X <= child.maxX && CENTER_Y >= child.minY && CENTER_Y <= child.maxY) { return child; }
+            }
+            return null;
+        }
+
+        private void query(final double MIN_X, final double MIN_Y, final double MAX_X, final double MAX_Y, final Consumer<T> CONSUMER) {
+            for (int i = 0, n = items.size() ; i < n ; i++) {
+                Entry<T> entry = items.get(i);
+                if (entry.intersects(MIN_X, MIN_Y, MAX_X, MAX_Y)) { CONSUMER.accept(entry.item); }
+            }
+            if (null == children) { return; }
+            for (Quad<T> child : children) {
+                if (child.looseMaxX >= MIN_X && child.looseMinX <= MAX_X && child.looseMaxY >= MIN_Y && child.looseMinY <= MAX_Y) {
+                    child.query(MIN_X, MIN_Y, MAX_X, MAX_Y, CONSUMER);
+                }
+            }
+        }
+
+        private void clear() {
+            items.clear();
+            children = null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Parses the subset of the SVG path syntax that is used by the country
+ * data (M, m, L, l, H, h, V, v, Z, z) into flat coordinate rings of the
+ * form [x0, y0, x1, y1, ...]. The parser has no shared state and does not
+ * depend on JavaFX, so it can be used from any thread.
+ */
+public final class SvgPathParser {
+    private static final double[] POW_10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                                             1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+
+    // ******************** Constructors **************************************
+    private SvgPathParser() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns all rings of the given path strings as flat arrays of x/y pairs.
+     * Closing a ring does not repeat its first point.
+     *
+     * @param PATHS svg path strings
+     * @return the rings of all given paths in the order they appear
+     */
+    public static double[][] parse(final String... PATHS) {
+        final Scanner        SCANNER = new Scanner();
+        final List<double[]> RINGS   = new ArrayList<>();
+        for (String path : PATHS) { SCANNER.parse(path, RINGS); }
+        return RINGS.toArray(new double[RINGS.size()][]);
+    }
+
+    /**
+     * Returns the bounds of the given rings as [minX, minY, maxX, maxY].
+     *
+     * @param RINGS flat coordinate rings
+     * @return the bounds of all rings
+     */
+    public static double[] bounds(final double[][] RINGS) {
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (double[] ring : RINGS) {
+            for (int i = 0 ; i < ring.length ; i += 2) {
+                if (ring[i]     < minX) { minX = ring[i]; }
+                if (ring[i]     > maxX) { maxX = ring[i]; }
+                if (ring[i + 1] < minY) { minY = ring[i + 1]; }
+                if (ring[i + 1] > maxY) { maxY = ring[i + 1]; }
+            }
+        }
+        return new double[] { minX, minY, maxX, maxY };
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Scanner {
+        private String   path;
+        private int      pos;
+        private int      length;
+        private double[] buffer = new double[256];
+        private int      size;
+
+
+        private void parse(final String PATH, final List<double[]> RINGS) {
+            path   = PATH;
+            pos    = 0;
+            length = PATH.length();
+            size   = 0;
+
+            double x      = 0;
+            double y      = 0;
+            double startX = 0;
+            double startY = 0;
+            char   cmd    = 0;
+            while (skipSeparators()) {
+                final char C = path.charAt(pos);
+                if (isCommand(C)) {
+                    cmd = C;
+                    pos++;
+                    if ('Z' == cmd || 'z' == cmd) {
+                        flush(RINGS);
+                        x = startX;
+                        y = startY;
+                        continue;
+                    }
+                } else if (0 == cmd || 'Z' == cmd || 'z' == cmd) {
+                    throw new IllegalArgumentException("Expected command at index " + pos + " in path");
+                }
+                switch (cmd) {
+                    case 'M':
+                    case 'm':
+                        flush(RINGS);
+                        x      = 'm' == cmd ? x + nextNumber() : nextNumber();
+                        y      = 'm' == cmd ? y + nextNumber() : nextNumber();
+                        startX = x;
+                        startY = y;
+                        add(x, y);
+                        // subsequent coordinate pairs are implicit line-to commands
+                        cmd = 'm' == cmd ? 'l' : 'L';
+                        break;
+                    case 'L': x = nextNumber(); y = nextNumber(); add(x, y); break;
+                    case 'l': x += nextNumber(); y += nextNumber(); add(x, y); break;
+                    case 'H': x = nextNumber(); add(x, y); break;
+                    case 'h': x += nextNumber(); add(x, y); break;
+                    case 'V': y = nextNumber(); add(x, y); break;
+                    case 'v': y += nextNumber(); add(x, y); break;
+                    default : throw new IllegalArgumentException("Unsupported command '" + cmd + "' in path");
+                }
+            }
+            flush(RINGS);
+            path = null;
+        }
+
+        private boolean skipSeparators() {
+            while (pos < length) {
+                final char C = path.charAt(pos);
+                if (C != ',' && C != ' ' && C != '\n' && C != '\r' && C != '\t') { return true; }
+                pos++;
+            }
+            return false;
+        }
+
+        private static boolean isCommand(final char C) {
+            switch (C) {
+                case 'M': case 'm': case 'L': case 'l': case 'H': case 'h': case 'V': case 'v': case 'Z': case 'z': return true;
+                default : return false;
+            }
+        }
+
+        private double nextNumber() {
+            if (!skipSeparators()) { throw new IllegalArgumentException("Unexpected end of path"); }
+            final int START    = pos;
+            boolean   negative = false;
+            char      c        = path.charAt(pos);
+            if ('-' == c || '+' == c) {
+                negative = '-' == c;
+                pos++;
+            }
+            long    mantissa = 0;
+            int     digits   = 0;
+            int     seen     = 0;
+            int     fraction = 0;
+            boolean dot      = false;
+            while (pos < length) {
+                c = path.charAt(pos);
+                if (c >= '0' && c <= '9') {
+                    seen++;
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                        if (dot) { fraction++; }
+                    } else if (!dot) {
+                        fraction--;
+                    }
+                } else if ('.' == c && !dot) {
+                    dot = true;
+                } else {
+                    break;
+                }
+                pos++;
+            }
+            if (0 == seen) {
+                throw new IllegalArgumentException("Expected number at index " + START + " in path");
+            }
+            if (pos < length && ('e' == c || 'E' == c)) {
+                pos++;
+                boolean negativeExponent = false;
+                if (pos < length && ('-' == path.charAt(pos) || '+' == path.charAt(pos))) {
+                    negativeExponent = '-' == path.charAt(pos);
+                    pos++;
+                }
+                int exponent = 0;
+                while (pos < length && path.charAt(pos) >= '0' && path.charAt(pos) <= '9') {
+                    exponent = exponent * 10 + (path.charAt(pos) - '0');
+                    pos++;
+                }
+                fraction += negativeExponent ? exponent : -exponent;
+            }
+            double value;
+            if (fraction >= 0 && fraction < POW_10.length) {
+                value = mantissa / POW_10[fraction];
+            } else if (fraction < 0 && -fraction < POW_10.length) {
+                value = mantissa * POW_10[-fraction];
+            } else {
+                value = Double.parseDouble(path.substring(negative ? START + 1 : START, pos));
+            }
+            return negative ? -value : value;
+        }
+
+        private void add(final double X, final double Y) {
+            if (size + 2 > buffer.length) { buffer = Arrays.copyOf(buffer, buffer.length * 2); }
+            buffer[size++] = X;
+            buffer[size++] = Y;
+        }
+
+        private void flush(final List<double[]> RINGS) {
+            if (size > 0) { RINGS.add(Arrays.copyOf(buffer, size)); }
+            size = 0;
+        }
+    }
+}
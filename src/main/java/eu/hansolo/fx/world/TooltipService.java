@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.PauseTransition;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+
+/**
+ * Shows one shared tooltip for all countries and locations of a world.
+ * The target under the mouse is found by hit testing the pick result of
+ * the mouse events on the owner node, the text of a target is created the
+ * first time it is needed and then cached by country or location.
+ */
+public class TooltipService {
+    private static final Duration               SHOW_DELAY = Duration.millis(700);
+    private static final double                 OFFSET     = 12;
+    private        final Node                   OWNER;
+    private        final Function<Node, Object> TARGET_RESOLVER;
+    private        final Tooltip                TOOLTIP;
+    private        final PauseTransition        SHOW_TIMER;
+    private        final Map<Object, String>    TEXT_CACHE;
+    private              Object                 target;
+    private              double                 screenX;
+    private              double                 screenY;
+    private              boolean                enabled;
+    private              long                   cacheHitCount;
+    private              long                   cacheMissCount;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param OWNER           the node that receives the mouse events
+     * @param TARGET_RESOLVER maps the picked node to a Country, a Location or null
+     */
+    public TooltipService(final Node OWNER, final Function<Node, Object> TARGET_RESOLVER) {
+        this.OWNER           = OWNER;
+        this.TARGET_RESOLVER = TARGET_RESOLVER;
+        this.TOOLTIP         = new Tooltip();
+        this.SHOW_TIMER      = new PauseTransition(SHOW_DELAY);
+        this.TEXT_CACHE      = new HashMap<>();
+        this.enabled         = true;
+        SHOW_TIMER.setOnFinished(e -> show());
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        final EventHandler<MouseEvent> HIDE_HANDLER = e -> setTarget(null);
+        OWNER.addEventFilter(MouseEvent.MOUSE_MOVED, e -> {
+            screenX = e.getScreenX();
+            screenY = e.getScreenY();
+            setTarget(enabled ? TARGET_RESOLVER.apply(e.getPickResult().getIntersectedNode()) : null);
+        });
+        OWNER.addEventFilter(MouseEvent.MOUSE_EXITED_TARGET, e -> { if (e.getTarget() == OWNER) { setTarget(null); } });
+        OWNER.addEventFilter(MouseEvent.MOUSE_PRESSED, HIDE_HANDLER);
+        OWNER.addEventFilter(MouseEvent.MOUSE_DRAGGED, HIDE_HANDLER);
+        OWNER.addEventFilter(ScrollEvent.SCROLL, e -> setTarget(null));
+    }
+
+
+    // ******************** Methods *******************************************
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(final boolean ENABLED) {
+        enabled = ENABLED;
+        if (!ENABLED) { setTarget(null); }
+    }
+
+    public Tooltip getTooltip() { return TOOLTIP; }
+
+    /**
+     * Returns the tooltip text of the given country or location, the text
+     * is created on first use and cached afterwards.
+     */
+    public String getText(final Object TARGET) {
+        if (null == TARGET) { return ""; }
+        String text = TEXT_CACHE.get(TARGET);
+        if (null == text) {
+            cacheMissCount++;
+            text = createText(TARGET);
+            TEXT_CACHE.put(TARGET, text);
+        } else {
+            cacheHitCount++;
+        }
+        return text;
+    }
+
+    public long getCacheHitCount() { return cacheHitCount; }
+    public long getCacheMissCount() { return cacheMissCount; }
+
+    /**
+     * Drops the cached text of the given country or location, e.g. after
+     * its name has changed or it was removed from the world.
+     */
+    public void invalidate(final Object TARGET) {
+        TEXT_CACHE.remove(TARGET);
+        if (TARGET == target) { setTarget(null); }
+    }
+    public void invalidateAll() {
+        TEXT_CACHE.clear();
+        setTarget(null);
+    }
+
+    private void setTarget(final Object TARGET) {
+        if (TARGET == target) { return; }
+        target = TARGET;
+        SHOW_TIMER.stop();
+        if (TOOLTIP.isShowing()) { TOOLTIP.hide(); }
+        if (null != TARGET && !getText(TARGET).isEmpty()) { SHOW_TIMER.playFromStart(); }
+    }
+
+    private void show() {
+        if (null == target || null == OWNER.getScene() || null == OWNER.getScene().getWindow()) { return; }
+        TOOLTIP.setText(getText(target));
+        TOOLTIP.show(OWNER, screenX + OFFSET, screenY + OFFSET);
+    }
+
+    private static String createText(final Object TARGET) {
+        if (TARGET instanceof Country) {
+            final Country COUNTRY = (Country) TARGET;
+            return CountryRegistry.of(COUNTRY).getDisplayName(COUNTRY);
+        } else if (TARGET instanceof Location) {
+            final Location LOCATION = (Location) TARGET;
+            final String   NAME     = null == LOCATION.getName() ? "" : LOCATION.getName();
+            final String   INFO     = null == LOCATION.getInfo() ? "" : LOCATION.getInfo();
+            if (INFO.isEmpty()) { return NAME; }
+            return NAME.isEmpty() ? INFO : NAME + "\n" + INFO;
+        }
+        return TARGET.toString();
+    }
+}
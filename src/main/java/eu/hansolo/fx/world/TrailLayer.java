@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.fx.world;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Draws the recent positions of tracked locations as trails. Every trail
+ * keeps its positions in a fixed capacity ring buffer of primitives, new
+ * positions are recorded when the World moves the marker of a location.
+ * Trails are decimated to at most one vertex per screen pixel, fade out
+ * towards their oldest position and all trails together draw at most
+ * maxVertices vertices per frame.
+ */
+public class TrailLayer extends MapLayer {
+    private static final int                  FADE_STEPS = 4;
+    private        final int                  CAPACITY;
+    private        final Map<Location, Trail> TRAILS;
+    private              Color                color;
+    private              double               lineWidth;
+    private              int                  maxVertices;
+    private              double[]             vertices;
+    private              int                  lastVertexCount;
+
+
+    // ******************** Constructors **************************************
+    public TrailLayer() {
+        this(256);
+    }
+    /**
+     * @param CAPACITY number of positions kept per trail
+     */
+    public TrailLayer(final int CAPACITY) {
+        if (CAPACITY < 2) { throw new IllegalArgumentException("A trail needs at least 2 positions"); }
+        this.CAPACITY    = CAPACITY;
+        this.TRAILS      = new LinkedHashMap<>();
+        this.color       = Color.web("#ff6600");
+        this.lineWidth   = 1.5;
+        this.maxVertices = 100_000;
+        this.vertices    = new double[2 * CAPACITY];
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts to record the positions of the given location.
+     */
+    public void track(final Location LOCATION) {
+        if (TRAILS.containsKey(LOCATION)) { return; }
+        final Trail TRAIL = new Trail(CAPACITY);
+        final Location.Position POSITION = LOCATION.getPosition();
+        TRAIL.add(POSITION.getX(), POSITION.getY());
+        TRAILS.put(LOCATION, TRAIL);
+        requestRedraw();
+    }
+    public void untrack(final Location LOCATION) {
+        if (null != TRAILS.remove(LOCATION)) { requestRedraw(); }
+    }
+    public boolean isTracked(final Location LOCATION) { return TRAILS.containsKey(LOCATION); }
+
+    /**
+     * Removes the recorded positions of all trails but keeps tracking the locations.
+     */
+    public void clearTrails() {
+        TRAILS.values().forEach(Trail::clear);
+        requestRedraw();
+    }
+
+    public Color getColor() { return color; }
+    /**
+     * The color of trails of locations without a color of their own.
+     */
+    public void setColor(final Color COLOR) {
+        color = COLOR;
+        requestRedraw();
+    }
+
+    /**
+     * @return the width of the trails in screen pixels
+     */
+    public double getLineWidth() { return lineWidth; }
+    public void setLineWidth(final double WIDTH) {
+        lineWidth = WIDTH;
+        requestRedraw();
+    }
+
+    /**
+     * @return the maximum number of vertices of all trails drawn per frame
+     */
+    public int getMaxVertices() { return maxVertices; }
+    public void setMaxVertices(final int MAX_VERTICES) {
+        maxVertices = Math.max(2, MAX_VERTICES);
+        requestRedraw();
+    }
+
+    /**
+     * @return the number of vertices drawn in the last frame
+     */
+    public int getLastVertexCount() { return lastVertexCount; }
+
+    @Override protected void locationMoved(final Location LOCATION) {
+        final Trail TRAIL = TRAILS.get(LOCATION);
+        if (null == TRAIL) { return; }
+        final Location.Position POSITION = LOCATION.getPosition();
+        TRAIL.add(POSITION.getX(), POSITION.getY());
+        requestRedraw();
+    }
+
+    @Override protected void draw(final GraphicsContext CTX) {
+        lastVertexCount = 0;
+        if (TRAILS.isEmpty()) { return; }
+        final double PIXEL       = getPixelSize();
+        final double MIN_DIST_SQ = PIXEL * PIXEL;
+        // every trail gets the same share of the budget
+        final int    SHARE       = Math.max(2, maxVertices / TRAILS.size());
+        CTX.setLineWidth(lineWidth * PIXEL);
+        CTX.setLineCap(StrokeLineCap.ROUND);
+        CTX.setLineJoin(StrokeLineJoin.ROUND);
+        for (Map.Entry<Location, Trail> entry : TRAILS.entrySet()) {
+            final int BUDGET = Math.min(SHARE, maxVertices - lastVertexCount);
+            if (BUDGET < 2) { break; }
+            final int COUNT = entry.getValue().decimate(MIN_DIST_SQ, BUDGET);
+            if (COUNT < 2) { continue; }
+            lastVertexCount += COUNT;
+            CTX.setStroke(null == entry.getKey().getColor() ? color : entry.getKey().getColor());
+            drawFading(CTX, COUNT);
+        }
+        CTX.setGlobalAlpha(1);
+    }
+
+    /**
+     * Draws the decimated vertices (newest first) in a few parts, the
+     * older the part the more transparent it is.
+     */
+    private void drawFading(final GraphicsContext CTX, final int COUNT) {
+        final int SEGMENTS = COUNT - 1;
+        for (int step = 0 ; step < FADE_STEPS ; step++) {
+            final int FROM = step * SEGMENTS / FADE_STEPS;
+            final int TO   = (step + 1) * SEGMENTS / FADE_STEPS;
+            if (FROM == TO) { continue; }
+            CTX.setGlobalAlpha(1 - step / (double) FADE_STEPS);
+            CTX.beginPath();
+            CTX.moveTo(vertices[2 * FROM], vertices[2 * FROM + 1]);
+            for (int i = FROM + 1 ; i <= TO ; i++) { lineTo(CTX, vertices[2 * i - 2], vertices[2 * i - 1], vertices[2 * i], vertices[2 * i + 1]); }
+            CTX.stroke();
+        }
+    }
+
+    /**
+     * A step of more than half the map width crosses the antimeridian, the
+     * line then ends at the antimeridian on one side of the map and goes on
+     * from it on the other side.
+     */
+    private static void lineTo(final GraphicsContext CTX, final double LAST_X, final double LAST_Y, final double X, final double Y) {
+        final double[] CROSSING = antimeridianCrossing(LAST_X, LAST_Y, X, Y);
+        if (null != CROSSING) {
+            CTX.lineTo(CROSSING[0], CROSSING[1]);
+            CTX.moveTo(CROSSING[2], CROSSING[1]);
+        }
+        CTX.lineTo(X, Y);
+    }
+
+    /**
+     * @return null if the step does not cross the antimeridian, otherwise [x where the line ends, y of the crossing, x where it goes on]
+     */
+    static double[] antimeridianCrossing(final double LAST_X, final double LAST_Y, final double X, final double Y) {
+        if (Math.abs(X - LAST_X) <= Projection.MAP_WIDTH * 0.5) { return null; }
+        // the antimeridian is not at the border of the map, the projection is shifted
+        final double  EAST      = Projection.toX(180);
+        final double  WEST      = Projection.toX(-180);
+        final double  WIDTH     = EAST - WEST;
+        final boolean EASTWARDS = X < LAST_X;
+        final double  END       = EASTWARDS ? EAST : WEST;
+        final double  SPAN      = (EASTWARDS ? X + WIDTH : X - WIDTH) - LAST_X;
+        final double  CROSSING  = LAST_Y + (Y - LAST_Y) * ((END - LAST_X) / SPAN);
+        return new double[] { END, CROSSING, EASTWARDS ? WEST : EAST };
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private final class Trail {
+        private final double[] XS;
+        private final double[] YS;
+        private       int      head;
+        private       int      count;
+
+        private Trail(final int CAPACITY) {
+            XS = new double[CAPACITY];
+            YS = new double[CAPACITY];
+        }
+
+        private void add(final double X, final double Y) {
+            XS[head] = X;
+            YS[head] = Y;
+            head = (head + 1) % XS.length;
+            if (count < XS.length) { count++; }
+        }
+
+        private void clear() {
+            if (0 == count) { return; }
+            // keep the current position as start of the new trail
+            final int LAST = (head - 1 + XS.length) % XS.length;
+            XS[0] = XS[LAST];
+            YS[0] = YS[LAST];
+            head  = 1 % XS.length;
+            count = 1;
+        }
+
+        /**
+         * Copies the positions from the newest to the oldest to the vertices,
+         * skipping positions closer than one pixel to the last copied one.
+         *
+         * @return the number of copied vertices
+         */
+        private int decimate(final double MIN_DIST_SQ, final int BUDGET) {
+            if (vertices.length < 2 * count) { vertices = Arrays.copyOf(vertices, 2 * count); }
+            int    copied = 0;
+            double lastX  = 0;
+            double lastY  = 0;
+            for (int i = 0 ; i < count && copied < BUDGET ; i++) {
+                final int     INDEX  = (head - 1 - i + 2 * XS.length) % XS.length;
+                final double  X      = XS[INDEX];
+                final double  Y      = YS[INDEX];
+                final boolean OLDEST = i == count - 1;
+                if (copied > 0 && !OLDEST) {
+                    final double DX = X - lastX;
+                    final double DY = Y - lastY;
+                    if (DX * DX + DY * DY < MIN_DIST_SQ) { continue; }
+                }
+                vertices[2 * copied]     = X;
+                vertices[2 * copied + 1] = Y;
+                lastX = X;
+                lastY = Y;
+                copied++;
+            }
+            return copied;
+        }
+    }
+}
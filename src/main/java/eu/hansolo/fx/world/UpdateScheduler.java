@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Shape;
+import javafx.util.Duration;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+
+/**
+ * Spreads large numbers of scene graph mutations (fills, relocations...)
+ * over several pulses. Updates are queued per target node and kind, a
+ * newer update of the same target and kind replaces the pending one. On
+ * every pulse the queue is worked off until the time budget is used up,
+ * updates of visible nodes first. Updates of visible and invisible nodes
+ * are kept in separate queues, so the visible ones are found without
+ * scanning the whole backlog.
+ * Updates that are dropped because the backlog is full are the latest
+ * state of their target, they are kept as dirty per target and kind and
+ * applied once the backlog has drained, unless a newer update replaces
+ * them before.
+ * All methods have to be called on the FX application thread.
+ */
+public class UpdateScheduler {
+    public  static final String                 FILL         = "fill";
+    public  static final String                 RELOCATE     = "relocate";
+    private static final int                    CHECK_PERIOD = 16;
+    private        final Predicate<Node>        VISIBLE;
+    private        final Map<Key, Runnable>     PENDING_VISIBLE;
+    private        final Map<Key, Runnable>     PENDING_INVISIBLE;
+    private        final Map<Key, Runnable>     DIRTY;
+    private        final Set<Object>            KINDS;
+    private        final AnimationTimer         TIMER;
+    private              long                   budget;
+    private              int                    maxBacklog;
+    private              boolean                running;
+    private              long                   appliedCount;
+    private              long                   coalescedCount;
+    private              long                   droppedCount;
+    private              long                   lastPulseNanos;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * @param VISIBLE tells whether a node is in the visible area, its updates are applied first
+     */
+    public UpdateScheduler(final Predicate<Node> VISIBLE) {
+        this.VISIBLE           = VISIBLE;
+        this.PENDING_VISIBLE   = new LinkedHashMap<>();
+        this.PENDING_INVISIBLE = new LinkedHashMap<>();
+        this.DIRTY             = new LinkedHashMap<>();
+        this.KINDS             = new HashSet<>();
+        this.budget            = 8_000_000;
+        this.maxBacklog        = Integer.MAX_VALUE;
+        this.TIMER             = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Queues the given update of the given node, a pending update with the
+     * same target and kind is replaced and counted as coalesced.
+     */
+    public void schedule(final Node TARGET, final Object KIND, final Runnable UPDATE) {
+        final Key     KEY     = new Key(TARGET, KIND);
+        final boolean IN_VIEW = VISIBLE.test(TARGET);
+        KINDS.add(KIND);
+        DIRTY.remove(KEY);
+        final Runnable REPLACED = (IN_VIEW ? PENDING_VISIBLE : PENDING_INVISIBLE).put(KEY, UPDATE);
+        if (null != REPLACED || null != (IN_VIEW ? PENDING_INVISIBLE : PENDING_VISIBLE).remove(KEY)) {
+            coalescedCount++;
+        } else if (getBacklog() > maxBacklog) {
+            // the oldest update gives way to the newest one, updates of invisible nodes first. It is the
+            // latest state of its target, so it is kept as dirty and applied once the backlog drained.
+            final Iterator<Map.Entry<Key, Runnable>> ITERATOR = (PENDING_INVISIBLE.isEmpty() ? PENDING_VISIBLE : PENDING_INVISIBLE).entrySet().iterator();
+            final Map.Entry<Key, Runnable>           OLDEST   = ITERATOR.next();
+            DIRTY.put(OLDEST.getKey(), OLDEST.getValue());
+            ITERATOR.remove();
+            droppedCount++;
+        }
+        startTimer();
+    }
+
+    public void scheduleFill(final Shape SHAPE, final Paint FILL) {
+        schedule(SHAPE, UpdateScheduler.FILL, () -> SHAPE.setFill(FILL));
+    }
+
+    public void scheduleRelocate(final Node NODE, final double X, final double Y) {
+        schedule(NODE, RELOCATE, () -> NODE.relocate(X, Y));
+    }
+
+    /**
+     * Moves the pending updates of the given node to the queue that matches
+     * its new visibility, has to be called when a node enters or leaves the
+     * visible area.
+     */
+    public void visibilityChanged(final Node NODE, final boolean IN_VIEW) {
+        final Map<Key, Runnable> FROM = IN_VIEW ? PENDING_INVISIBLE : PENDING_VISIBLE;
+        final Map<Key, Runnable> TO   = IN_VIEW ? PENDING_VISIBLE : PENDING_INVISIBLE;
+        if (FROM.isEmpty()) { return; }
+        for (Object kind : KINDS) {
+            final Key      KEY    = new Key(NODE, kind);
+            final Runnable UPDATE = FROM.remove(KEY);
+            if (null != UPDATE) { TO.put(KEY, UPDATE); }
+        }
+    }
+
+    /**
+     * Applies all pending updates at once.
+     */
+    public void flush() {
+        final long START = System.nanoTime();
+        apply(PENDING_VISIBLE, Long.MAX_VALUE);
+        apply(PENDING_INVISIBLE, Long.MAX_VALUE);
+        apply(DIRTY, Long.MAX_VALUE);
+        lastPulseNanos = System.nanoTime() - START;
+        stopTimer();
+    }
+
+    /**
+     * Removes all pending and dirty updates without applying them, they are counted as dropped.
+     */
+    public void cancel() {
+        droppedCount += getBacklog();
+        PENDING_VISIBLE.clear();
+        PENDING_INVISIBLE.clear();
+        DIRTY.clear();
+        stopTimer();
+    }
+
+    /**
+     * @return the time that may be spent per pulse on applying updates
+     */
+    public Duration getBudget() { return Duration.millis(budget / 1_000_000.0); }
+    public void setBudget(final Duration BUDGET) { budget = Math.max(1, (long) (BUDGET.toMillis() * 1_000_000)); }
+
+    /**
+     * If more updates are pending the oldest ones are dropped from the
+     * backlog, they are applied once it has drained.
+     */
+    public int getMaxBacklog() { return maxBacklog; }
+    public void setMaxBacklog(final int MAX_BACKLOG) {
+        if (MAX_BACKLOG < 1) { throw new IllegalArgumentException("Max backlog must be positive"); }
+        maxBacklog = MAX_BACKLOG;
+    }
+
+    public int getBacklog() { return PENDING_VISIBLE.size() + PENDING_INVISIBLE.size(); }
+
+    /**
+     * @return the number of dropped updates that wait for the backlog to drain
+     */
+    public int getDirtyCount() { return DIRTY.size(); }
+
+    public long getAppliedCount() { return appliedCount; }
+
+    public long getCoalescedCount() { return coalescedCount; }
+
+    public long getDroppedCount() { return droppedCount; }
+
+    /**
+     * @return the time spent on updates in the last pulse in nanoseconds
+     */
+    public long getLastPulseNanos() { return lastPulseNanos; }
+
+    public void resetStatistics() {
+        appliedCount   = 0;
+        coalescedCount = 0;
+        droppedCount   = 0;
+        lastPulseNanos = 0;
+    }
+
+    private void pulse() {
+        final long START    = System.nanoTime();
+        final long DEADLINE = START + budget;
+        // visible nodes first, then whatever fits into the rest of the budget
+        // and the dropped updates once nothing else is pending
+        if (apply(PENDING_VISIBLE, DEADLINE) && apply(PENDING_INVISIBLE, DEADLINE)) { apply(DIRTY, DEADLINE); }
+        lastPulseNanos = System.nanoTime() - START;
+        if (getBacklog() == 0 && DIRTY.isEmpty()) { stopTimer(); }
+    }
+
+    /**
+     * @return false if the budget was used up
+     */
+    private boolean apply(final Map<Key, Runnable> QUEUE, final long DEADLINE) {
+        int count = 0;
+        while (!QUEUE.isEmpty()) {
+            if (++count % CHECK_PERIOD == 0 && System.nanoTime() >= DEADLINE) { return false; }
+            // removed before it runs, so that the update may schedule or move further updates
+            final Iterator<Map.Entry<Key, Runnable>> ITERATOR = QUEUE.entrySet().iterator();
+            final Runnable UPDATE = ITERATOR.next().getValue();
+            ITERATOR.remove();
+            UPDATE.run();
+            appliedCount++;
+        }
+        return System.nanoTime() < DEADLINE;
+    }
+
+    // package-private, the tests apply the updates with flush() and run without the FX toolkit
+    void startTimer() {
+        if (running) { return; }
+        running = true;
+        TIMER.start();
+    }
+
+    void stopTimer() {
+        if (!running) { return; }
+        running = false;
+        TIMER.stop();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Key {
+        private final Node   TARGET;
+        private final Object KIND;
+
+        private Key(final Node TARGET, final Object KIND) {
+            this.TARGET = TARGET;
+            this.KIND   = KIND;
+        }
+
+        @Override public boolean equals(final Object OBJECT) {
+            if (!(OBJECT instanceof Key)) { return false; }
+            final Key OTHER = (Key) OBJECT;
+            return TARGET == OTHER.TARGET && KIND.equals(OTHER.KIND);
+        }
+
+        @Override public int hashCode() { return 31 * System.identityHashCode(TARGET) + KIND.hashCode(); }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.scene.paint.Color;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+
+/**
+ * Compact binary log of the workload of a World, written by the
+ * WorkloadRecorder or synthesized here and replayed by the WorkloadPlayer.
+ *
+ * File layout (big endian):
+ * <pre>
+ * int magic 'WFXW', int version
+ * events: byte type, varint micros since the previous event, payload
+ *   LOCATION_ADDED   varint id, double lat, double lon, utf name, int argb (0 = default color)
+ *   LOCATION_REMOVED varint id
+ *   LOCATION_MOVED   varint id, double lat, double lon
+ *   COUNTRY_FILL     utf country name, int argb
+ *   MOUSE            byte kind, float x, float y, float scroll delta
+ *   RESIZE           float width, float height
+ *   OBJECT_FIX       varint layer, long id, double lat, double lon, long time
+ *   COUNTRY_VALUE    utf country name, boolean has value, utf value text if it has one
+ * </pre>
+ * Layers are numbered in the order of their first fix. Country values are
+ * application objects, the log keeps their text (toString()).
+ * Mouse coordinates and sizes are in the coordinate system of the World.
+ */
+public final class WorkloadLog {
+    public  static final byte LOCATION_ADDED   = 1;
+    public  static final byte LOCATION_REMOVED = 2;
+    public  static final byte LOCATION_MOVED   = 3;
+    public  static final byte COUNTRY_FILL     = 4;
+    public  static final byte MOUSE            = 5;
+    public  static final byte RESIZE           = 6;
+    public  static final byte OBJECT_FIX       = 7;
+    public  static final byte COUNTRY_VALUE    = 8;
+    public  static final byte MOUSE_MOVED      = 0;
+    public  static final byte MOUSE_PRESSED    = 1;
+    public  static final byte MOUSE_RELEASED   = 2;
+    public  static final byte MOUSE_DRAGGED    = 3;
+    public  static final byte MOUSE_SCROLLED   = 4;
+    private static final int  MAGIC            = 0x57465857;
+    private static final int  VERSION          = 1;
+
+
+    // ******************** Constructors **************************************
+    private WorkloadLog() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Writes a log that adds COUNT random locations, e.g. airports, at once.
+     */
+    public static void randomLocations(final Path TARGET, final int COUNT, final long SEED) throws IOException {
+        final Random RND = new Random(SEED);
+        try (Writer writer = new Writer(TARGET)) {
+            for (int id = 0 ; id < COUNT ; id++) { writer.locationAdded(0, id, "AP" + id, randomLatitude(RND), randomLongitude(RND), 0); }
+        }
+    }
+
+    /**
+     * Writes a log that adds LOCATIONS random locations and then moves
+     * randomly chosen ones by up to half a degree at a constant rate, e.g.
+     * 10k updates per second.
+     */
+    public static void randomUpdates(final Path TARGET, final int LOCATIONS, final double UPDATES_PER_SECOND, final double SECONDS, final long SEED) throws IOException {
+        if (LOCATIONS < 1 || UPDATES_PER_SECOND <= 0) { throw new IllegalArgumentException("Locations and rate must be positive"); }
+        final Random   RND        = new Random(SEED);
+        final double[] LATITUDES  = new double[LOCATIONS];
+        final double[] LONGITUDES = new double[LOCATIONS];
+        final long     UPDATES    = (long) (UPDATES_PER_SECOND * SECONDS);
+        try (Writer writer = new Writer(TARGET)) {
+            for (int id = 0 ; id < LOCATIONS ; id++) {
+                LATITUDES[id]  = randomLatitude(RND);
+                LONGITUDES[id] = randomLongitude(RND);
+                writer.locationAdded(0, id, "L" + id, LATITUDES[id], LONGITUDES[id], 0);
+            }
+            for (long i = 0 ; i < UPDATES ; i++) {
+                final int ID = RND.nextInt(LOCATIONS);
+                LATITUDES[ID]  = Math.max(-85, Math.min(85, LATITUDES[ID] + RND.nextDouble() - 0.5));
+                LONGITUDES[ID] = Math.max(-180, Math.min(180, LONGITUDES[ID] + RND.nextDouble() - 0.5));
+                writer.locationMoved((long) (i * 1_000_000 / UPDATES_PER_SECOND), ID, LATITUDES[ID], LONGITUDES[ID]);
+            }
+        }
+    }
+
+    static int toArgb(final Color COLOR) {
+        if (null == COLOR) { return 0; }
+        return (int) Math.round(COLOR.getOpacity() * 255) << 24 | (int) Math.round(COLOR.getRed() * 255) << 16 |
+               (int) Math.round(COLOR.getGreen() * 255) << 8 | (int) Math.round(COLOR.getBlue() * 255);
+    }
+
+    static Color toColor(final int ARGB) {
+        if (0 == ARGB) { return null; }
+        return Color.rgb(ARGB >> 16 & 0xFF, ARGB >> 8 & 0xFF, ARGB & 0xFF, (ARGB >>> 24) / 255.0);
+    }
+
+    private static double randomLatitude(final Random RND) { return RND.nextDouble() * 130 - 60; }
+
+    private static double randomLongitude(final Random RND) { return RND.nextDouble() * 360 - 180; }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * One entry of the log, the Reader fills the fields of its type.
+     */
+    public static final class Event {
+        public byte   type;
+        public long   micros;
+        public int    id;
+        public double latitude;
+        public double longitude;
+        public String name;
+        public int    argb;
+        public byte   kind;
+        public float  x;
+        public float  y;
+        public float  delta;
+        public float  width;
+        public float  height;
+        public int    layer;
+        public long   objectId;
+        public long   time;
+        public String value;
+    }
+
+    public static final class Writer implements Closeable {
+        private final DataOutputStream OUT;
+        private       long             lastMicros;
+        private       long             count;
+
+        public Writer(final Path TARGET) throws IOException {
+            OUT = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(TARGET), 1 << 16));
+            OUT.writeInt(MAGIC);
+            OUT.writeInt(VERSION);
+        }
+
+        public void locationAdded(final long MICROS, final int ID, final String NAME, final double LATITUDE, final double LONGITUDE, final int ARGB) throws IOException {
+            begin(LOCATION_ADDED, MICROS);
+            writeVarint(ID);
+            OUT.writeDouble(LATITUDE);
+            OUT.writeDouble(LONGITUDE);
+            OUT.writeUTF(null == NAME ? "" : NAME);
+            OUT.writeInt(ARGB);
+        }
+
+        public void locationRemoved(final long MICROS, final int ID) throws IOException {
+            begin(LOCATION_REMOVED, MICROS);
+            writeVarint(ID);
+        }
+
+        public void locationMoved(final long MICROS, final int ID, final double LATITUDE, final double LONGITUDE) throws IOException {
+            begin(LOCATION_MOVED, MICROS);
+            writeVarint(ID);
+            OUT.writeDouble(LATITUDE);
+            OUT.writeDouble(LONGITUDE);
+        }
+
+        public void countryFill(final long MICROS, final String COUNTRY, final int ARGB) throws IOException {
+            begin(COUNTRY_FILL, MICROS);
+            OUT.writeUTF(COUNTRY);
+            OUT.writeInt(ARGB);
+        }
+
+        public void mouse(final long MICROS, final byte KIND, final double X, final double Y, final double DELTA) throws IOException {
+            begin(MOUSE, MICROS);
+            OUT.writeByte(KIND);
+            OUT.writeFloat((float) X);
+            OUT.writeFloat((float) Y);
+            OUT.writeFloat((float) DELTA);
+        }
+
+        public void resize(final long MICROS, final double WIDTH, final double HEIGHT) throws IOException {
+            begin(RESIZE, MICROS);
+            OUT.writeFloat((float) WIDTH);
+            OUT.writeFloat((float) HEIGHT);
+        }
+
+        public void objectFix(final long MICROS, final int LAYER, final long ID, final double LATITUDE, final double LONGITUDE, final long TIME) throws IOException {
+            begin(OBJECT_FIX, MICROS);
+            writeVarint(LAYER);
+            OUT.writeLong(ID);
+            OUT.writeDouble(LATITUDE);
+            OUT.writeDouble(LONGITUDE);
+            OUT.writeLong(TIME);
+        }
+
+        /**
+         * @param VALUE the text of the value or null if the value has been cleared
+         */
+        public void countryValue(final long MICROS, final String COUNTRY, final String VALUE) throws IOException {
+            begin(COUNTRY_VALUE, MICROS);
+            OUT.writeUTF(COUNTRY);
+            OUT.writeBoolean(null != VALUE);
+            if (null != VALUE) { OUT.writeUTF(VALUE); }
+        }
+
+        public long getCount() { return count; }
+
+        @Override public void close() throws IOException { OUT.close(); }
+
+        private void begin(final byte TYPE, final long MICROS) throws IOException {
+            if (MICROS < lastMicros) { throw new IllegalArgumentException("Events must be written in chronological order"); }
+            OUT.writeByte(TYPE);
+            writeVarint(MICROS - lastMicros);
+            lastMicros = MICROS;
+            count++;
+        }
+
+        private void writeVarint(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                OUT.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            OUT.writeByte((int) value);
+        }
+    }
+
+    public static final class Reader implements Closeable {
+        private final DataInputStream IN;
+        private       long            micros;
+
+        public Reader(final Path SOURCE) throws IOException {
+            IN = new DataInputStream(new BufferedInputStream(Files.newInputStream(SOURCE), 1 << 16));
+            if (MAGIC != IN.readInt() || VERSION != IN.readInt()) {
+                IN.close();
+                throw new IllegalArgumentException("Not a workload log");
+            }
+        }
+
+        /**
+         * Reads the next event into the given one.
+         *
+         * @return false at the end of the log
+         */
+        public boolean next(final Event EVENT) throws IOException {
+            final int TYPE = IN.read();
+            if (TYPE < 0) { return false; }
+            micros      += readVarint();
+            EVENT.type   = (byte) TYPE;
+            EVENT.micros = micros;
+            switch (EVENT.type) {
+                case LOCATION_ADDED:
+                    EVENT.id        = (int) readVarint();
+                    EVENT.latitude  = IN.readDouble();
+                    EVENT.longitude = IN.readDouble();
+                    EVENT.name      = IN.readUTF();
+                    EVENT.argb      = IN.readInt();
+                    break;
+                case LOCATION_REMOVED:
+                    EVENT.id = (int) readVarint();
+                    break;
+                case LOCATION_MOVED:
+                    EVENT.id        = (int) readVarint();
+                    EVENT.latitude  = IN.readDouble();
+                    EVENT.longitude = IN.readDouble();
+                    break;
+                case COUNTRY_FILL:
+                    EVENT.name = IN.readUTF();
+                    EVENT.argb = IN.readInt();
+                    break;
+                case MOUSE:
+                    EVENT.kind  = IN.readByte();
+                    EVENT.x     = IN.readFloat();
+                    EVENT.y     = IN.readFloat();
+                    EVENT.delta = IN.readFloat();
+                    break;
+                case RESIZE:
+                    EVENT.width  = IN.readFloat();
+                    EVENT.height = IN.readFloat();
+                    break;
+                case OBJECT_FIX:
+                    EVENT.layer     = (int) readVarint();
+                    EVENT.objectId  = IN.readLong();
+                    EVENT.latitude  = IN.readDouble();
+                    EVENT.longitude = IN.readDouble();
+                    EVENT.time      = IN.readLong();
+                    break;
+                case COUNTRY_VALUE:
+                    EVENT.name  = IN.readUTF();
+                    EVENT.value = IN.readBoolean() ? IN.readUTF() : null;
+                    break;
+                default: throw new IOException("Unknown event type " + TYPE);
+            }
+            return true;
+        }
+
+        @Override public void close() throws IOException { IN.close(); }
+
+        private long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0 ; shift < 64 ; shift += 7) {
+                final int B = IN.read();
+                if (B < 0) { throw new EOFException(); }
+                value |= (long) (B & 0x7F) << shift;
+                if ((B & 0x80) == 0) { return value; }
+            }
+            throw new IOException("Malformed varint");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.input.ScrollEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Replays a WorkloadLog on a World. The events are applied in the order of
+ * the log on the FX thread, in each pulse all events that are due at the
+ * chosen speed. At MAX_SPEED each pulse applies as many events as fit into
+ * a few milliseconds, so the scene is still rendered in between.
+ * Mouse events are sent to the country under the recorded position,
+ * entered and exited events are derived from the moves.
+ * Position fixes go to MovingObjectLayers that are added to the world for
+ * the layers of the log, country values are set as objects that only carry
+ * the recorded text.
+ */
+public final class WorkloadPlayer {
+    public  static final double                          MAX_SPEED        = Double.POSITIVE_INFINITY;
+    private static final long                            MAX_SPEED_BUDGET = 12_000_000L;
+    private        final World                           WORLD;
+    private        final Path                            LOG;
+    private        final Map<Integer, Location>          LOCATIONS;
+    private        final Map<Integer, MovingObjectLayer> LAYERS;
+    private        final WorkloadLog.Event               EVENT;
+    private        final AnimationTimer                  TIMER;
+    private              WorkloadLog.Reader              reader;
+    private              CompletableFuture<Long>         result;
+    private              boolean                         pending;
+    private              double                          speed;
+    private              long                            start;
+    private              long                            count;
+    private              CountryPath                     hovered;
+    private              boolean                         pressed;
+
+
+    // ******************** Constructors **************************************
+    public WorkloadPlayer(final World WORLD, final Path LOG) {
+        this.WORLD     = WORLD;
+        this.LOG       = LOG;
+        this.LOCATIONS = new HashMap<>();
+        this.LAYERS    = new HashMap<>();
+        this.EVENT     = new WorkloadLog.Event();
+        this.TIMER     = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulse(NOW); }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Starts the replay, must be called on the FX thread.
+     *
+     * @param SPEED 1 for the recorded rate, 2 for twice as fast etc. or MAX_SPEED
+     * @return completes with the number of replayed events on the FX thread
+     */
+    public CompletableFuture<Long> play(final double SPEED) throws IOException {
+        if (SPEED <= 0) { throw new IllegalArgumentException("Speed must be positive"); }
+        stop();
+        reader  = new WorkloadLog.Reader(LOG);
+        result  = new CompletableFuture<>();
+        speed   = SPEED;
+        start   = 0;
+        count   = 0;
+        pending = false;
+        LOCATIONS.clear();
+        LAYERS.clear();
+        TIMER.start();
+        return result;
+    }
+
+    /**
+     * Stops the replay, the future returned by play() is cancelled.
+     */
+    public void stop() {
+        if (null == reader) { return; }
+        finish();
+        result.cancel(false);
+    }
+
+    public boolean isPlaying() { return null != reader; }
+
+    /**
+     * @return the number of events applied since the replay started
+     */
+    public long getEventCount() { return count; }
+
+    private void pulse(final long NOW) {
+        if (0 == start) { start = NOW; }
+        final long DUE   = Double.isInfinite(speed) ? Long.MAX_VALUE : (long) ((NOW - start) / 1000 * speed);
+        final long BEGIN = System.nanoTime();
+        try {
+            while (true) {
+                if (!pending) {
+                    if (!reader.next(EVENT)) {
+                        final long COUNT = count;
+                        final CompletableFuture<Long> RESULT = result;
+                        finish();
+                        RESULT.complete(COUNT);
+                        return;
+                    }
+                    pending = true;
+                }
+                if (EVENT.micros > DUE) { return; }
+                apply(EVENT);
+                pending = false;
+                count++;
+                if (Double.isInfinite(speed) && System.nanoTime() - BEGIN > MAX_SPEED_BUDGET) { return; }
+            }
+        } catch (IOException e) {
+            final CompletableFuture<Long> RESULT = result;
+            finish();
+            RESULT.completeExceptionally(new UncheckedIOException(e));
+        }
+    }
+
+    private void finish() {
+        TIMER.stop();
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // nothing left to read
+        }
+        reader  = null;
+        hovered = null;
+        pressed = false;
+    }
+
+    private void apply(final WorkloadLog.Event EVENT) {
+        switch (EVENT.type) {
+            case WorkloadLog.LOCATION_ADDED:
+                final Location LOCATION = new Location(EVENT.name, EVENT.latitude, EVENT.longitude, WorkloadLog.toColor(EVENT.argb));
+                final Location REPLACED = LOCATIONS.put(EVENT.id, LOCATION);
+                if (null != REPLACED) { WORLD.removeLocation(REPLACED); }
+                WORLD.addLocation(LOCATION);
+                break;
+            case WorkloadLog.LOCATION_REMOVED:
+                final Location REMOVED = LOCATIONS.remove(EVENT.id);
+                if (null != REMOVED) { WORLD.removeLocation(REMOVED); }
+                break;
+            case WorkloadLog.LOCATION_MOVED:
+                final Location MOVED = LOCATIONS.get(EVENT.id);
+                if (null != MOVED) { MOVED.setPosition(EVENT.latitude, EVENT.longitude); }
+                break;
+            case WorkloadLog.COUNTRY_FILL:
+                final List<CountryPath> PATHS = WORLD.countryPaths.get(EVENT.name);
+                if (null != PATHS && !PATHS.isEmpty()) { WORLD.scheduleCountryFill(PATHS.get(0).getCountry(), WorkloadLog.toColor(EVENT.argb)); }
+                break;
+            case WorkloadLog.MOUSE:
+                mouse(EVENT.kind, EVENT.x, EVENT.y, EVENT.delta);
+                break;
+            case WorkloadLog.RESIZE:
+                WORLD.setPrefSize(EVENT.width, EVENT.height);
+                WORLD.resize(EVENT.width, EVENT.height);
+                break;
+            case WorkloadLog.OBJECT_FIX:
+                MovingObjectLayer layer = LAYERS.get(EVENT.layer);
+                if (null == layer) {
+                    layer = new MovingObjectLayer();
+                    LAYERS.put(EVENT.layer, layer);
+                    WORLD.addLayer(layer);
+                }
+                layer.offer(EVENT.objectId, EVENT.latitude, EVENT.longitude, EVENT.time);
+                break;
+            case WorkloadLog.COUNTRY_VALUE:
+                final List<CountryPath> VALUE_PATHS = WORLD.countryPaths.get(EVENT.name);
+                if (null != VALUE_PATHS && !VALUE_PATHS.isEmpty()) { VALUE_PATHS.get(0).getCountry().setValue(null == EVENT.value ? null : new RecordedValue(EVENT.value)); }
+                break;
+            default: break;
+        }
+    }
+
+    private void mouse(final byte KIND, final double X, final double Y, final double DELTA) {
+        final Point2D SCENE = WORLD.localToScene(X, Y);
+        if (WorkloadLog.MOUSE_SCROLLED == KIND) {
+            Event.fireEvent(WORLD, new ScrollEvent(ScrollEvent.SCROLL, SCENE.getX(), SCENE.getY(), SCENE.getX(), SCENE.getY(), false, false, false, false,
+                                                   false, false, 0, DELTA, 0, DELTA, ScrollEvent.HorizontalTextScrollUnits.NONE, 0,
+                                                   ScrollEvent.VerticalTextScrollUnits.NONE, 0, 0, null));
+            return;
+        }
+        if (WorkloadLog.MOUSE_PRESSED == KIND) {
+            pressed = true;
+        } else if (WorkloadLog.MOUSE_RELEASED == KIND) {
+            pressed = false;
+        }
+        final CountryPath PATH = pick(SCENE);
+        if (PATH != hovered) {
+            if (null != hovered) { fire(hovered, MouseEvent.MOUSE_EXITED, SCENE); }
+            hovered = PATH;
+            if (null != PATH) { fire(PATH, MouseEvent.MOUSE_ENTERED, SCENE); }
+        }
+        final EventType<MouseEvent> TYPE;
+        switch (KIND) {
+            case WorkloadLog.MOUSE_PRESSED : TYPE = MouseEvent.MOUSE_PRESSED; break;
+            case WorkloadLog.MOUSE_RELEASED: TYPE = MouseEvent.MOUSE_RELEASED; break;
+            case WorkloadLog.MOUSE_DRAGGED : TYPE = MouseEvent.MOUSE_DRAGGED; break;
+            default                        : TYPE = MouseEvent.MOUSE_MOVED; break;
+        }
+        fire(null == PATH ? WORLD : PATH, TYPE, SCENE);
+    }
+
+    private void fire(final Node TARGET, final EventType<MouseEvent> TYPE, final Point2D SCENE) {
+        final boolean DOWN = pressed || MouseEvent.MOUSE_RELEASED == TYPE;
+        Event.fireEvent(TARGET, new MouseEvent(TYPE, SCENE.getX(), SCENE.getY(), SCENE.getX(), SCENE.getY(), DOWN ? MouseButton.PRIMARY : MouseButton.NONE, 1,
+                                               false, false, false, false, pressed, false, false, true, false, false, new PickResult(TARGET, SCENE.getX(), SCENE.getY())));
+    }
+
+    private CountryPath pick(final Point2D SCENE) {
+        final Point2D       P      = WORLD.pane.sceneToLocal(SCENE);
+        final CountryPath[] PICKED = new CountryPath[1];
+        WORLD.viewportIndex.query(P.getX(), P.getY(), P.getX(), P.getY(), node -> {
+            if (node instanceof CountryPath && node.isVisible() && node.contains(node.sceneToLocal(SCENE))) { PICKED[0] = (CountryPath) node; }
+        });
+        return PICKED[0];
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class RecordedValue implements ValueObject {
+        private final String TEXT;
+
+        private RecordedValue(final String TEXT) { this.TEXT = TEXT; }
+
+        @Override public String toString() { return TEXT; }
+    }
+}
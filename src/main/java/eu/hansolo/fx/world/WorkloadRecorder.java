@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.MapChangeListener;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Shape;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Records the workload of a World into a WorkloadLog: locations that are
+ * added, removed or moved, country fills scheduled via scheduleCountryFill
+ * (also those of a ChoroplethAnimation), position fixes offered to its
+ * MovingObjectLayers, values set on its countries, mouse events and
+ * resizes. Moves, fixes and values are recorded at the rate they are set,
+ * not at the rate the world applies them. The locations that exist when
+ * the recording starts and the current size are written first, so the log
+ * can be replayed on an empty world.
+ * Must be created and closed on the FX thread, the recorded setters may be
+ * called from any thread.
+ */
+public final class WorkloadRecorder implements Closeable {
+    private static final List<WorkloadRecorder>             ACTIVE = new CopyOnWriteArrayList<>();
+    private        final World                              WORLD;
+    private        final WorkloadLog.Writer                 WRITER;
+    private        final long                               START;
+    private        final Map<Location, Integer>             IDS;
+    private        final Map<MapLayer, Integer>             LAYER_IDS;
+    private        final MapChangeListener<Location, Shape> LOCATION_LISTENER;
+    private        final EventHandler<MouseEvent>           MOUSE_FILTER;
+    private        final EventHandler<ScrollEvent>          SCROLL_FILTER;
+    private        final InvalidationListener               SIZE_LISTENER;
+    // guarded by this, the writer too
+    private              int                                nextId;
+    private              IOException                        error;
+    private              boolean                            closed;
+
+
+    // ******************** Constructors **************************************
+    public WorkloadRecorder(final World WORLD, final Path TARGET) throws IOException {
+        this.WORLD             = WORLD;
+        this.WRITER            = new WorkloadLog.Writer(TARGET);
+        this.START             = System.nanoTime();
+        this.IDS               = new IdentityHashMap<>();
+        this.LAYER_IDS         = new IdentityHashMap<>();
+        this.LOCATION_LISTENER = change -> {
+            if (change.wasRemoved()) { locationRemoved(change.getKey()); }
+            if (change.wasAdded()) { locationAdded(change.getKey()); }
+        };
+        this.MOUSE_FILTER      = evt -> mouse(evt.getEventType(), evt.getX(), evt.getY());
+        this.SCROLL_FILTER     = evt -> scrolled(evt.getX(), evt.getY(), evt.getDeltaY());
+        this.SIZE_LISTENER     = o -> resized();
+
+        resized();
+        for (Location location : WORLD.locations.keySet()) { locationAdded(location); }
+        WORLD.locations.addListener(LOCATION_LISTENER);
+        WORLD.addEventFilter(MouseEvent.ANY, MOUSE_FILTER);
+        WORLD.addEventFilter(ScrollEvent.SCROLL, SCROLL_FILTER);
+        WORLD.widthProperty().addListener(SIZE_LISTENER);
+        WORLD.heightProperty().addListener(SIZE_LISTENER);
+        WORLD.recorder = this;
+        ACTIVE.add(this);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * @return the number of events written so far
+     */
+    public synchronized long getEventCount() { return WRITER.getCount(); }
+
+    /**
+     * Stops recording and closes the log.
+     *
+     * @throws IOException if the log could not be written, also if this happened during the recording
+     */
+    @Override public synchronized void close() throws IOException {
+        if (closed) { return; }
+        detach();
+        closed = true;
+        try {
+            WRITER.close();
+        } catch (IOException e) {
+            if (null == error) { error = e; }
+        }
+        if (null != error) { throw error; }
+    }
+
+    /**
+     * Called by the countries whenever a value is set, records it for all
+     * worlds that show the country.
+     */
+    static void valueChanged(final Country COUNTRY, final ValueObject VALUE) {
+        if (ACTIVE.isEmpty()) { return; }
+        final String TEXT = null == VALUE ? null : String.valueOf(VALUE);
+        for (WorkloadRecorder recorder : ACTIVE) { recorder.countryValue(COUNTRY, TEXT); }
+    }
+
+    synchronized void locationMoved(final Location LOCATION, final Location.Position POSITION) {
+        if (isStopped()) { return; }
+        final Integer ID = IDS.get(LOCATION);
+        if (null == ID) { return; }
+        try {
+            WRITER.locationMoved(micros(), ID, POSITION.LATITUDE, POSITION.LONGITUDE);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    synchronized void objectFix(final MapLayer LAYER, final long ID, final double LATITUDE, final double LONGITUDE, final long TIME) {
+        if (isStopped()) { return; }
+        Integer layerId = LAYER_IDS.get(LAYER);
+        if (null == layerId) {
+            layerId = LAYER_IDS.size();
+            LAYER_IDS.put(LAYER, layerId);
+        }
+        try {
+            WRITER.objectFix(micros(), layerId, ID, LATITUDE, LONGITUDE, TIME);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    synchronized void countryFill(final Country COUNTRY, final Color FILL) {
+        if (isStopped()) { return; }
+        try {
+            WRITER.countryFill(micros(), COUNTRY.name(), WorkloadLog.toArgb(FILL));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private synchronized void countryValue(final Country COUNTRY, final String VALUE) {
+        if (isStopped()) { return; }
+        // the low and high resolution countries share their names
+        final List<CountryPath> PATHS = WORLD.countryPaths.get(COUNTRY.name());
+        if (null == PATHS || PATHS.isEmpty() || COUNTRY != PATHS.get(0).getCountry()) { return; }
+        try {
+            WRITER.countryValue(micros(), COUNTRY.name(), VALUE);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private synchronized void locationAdded(final Location LOCATION) {
+        if (isStopped()) { return; }
+        final int ID = nextId++;
+        IDS.put(LOCATION, ID);
+        final Location.Position POSITION = LOCATION.getPosition();
+        try {
+            WRITER.locationAdded(micros(), ID, LOCATION.getName(), POSITION.LATITUDE, POSITION.LONGITUDE, WorkloadLog.toArgb(LOCATION.getColor()));
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private synchronized void locationRemoved(final Location LOCATION) {
+        if (isStopped()) { return; }
+        final Integer ID = IDS.remove(LOCATION);
+        if (null == ID) { return; }
+        try {
+            WRITER.locationRemoved(micros(), ID);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void mouse(final EventType<? extends MouseEvent> TYPE, final double X, final double Y) {
+        final byte KIND;
+        if (MouseEvent.MOUSE_MOVED == TYPE) {
+            KIND = WorkloadLog.MOUSE_MOVED;
+        } else if (MouseEvent.MOUSE_PRESSED == TYPE) {
+            KIND = WorkloadLog.MOUSE_PRESSED;
+        } else if (MouseEvent.MOUSE_RELEASED == TYPE) {
+            KIND = WorkloadLog.MOUSE_RELEASED;
+        } else if (MouseEvent.MOUSE_DRAGGED == TYPE) {
+            KIND = WorkloadLog.MOUSE_DRAGGED;
+        } else {
+            // entered, exited and clicked follow from the others on replay
+            return;
+        }
+        mouse(KIND, X, Y, 0);
+    }
+
+    private void scrolled(final double X, final double Y, final double DELTA) { mouse(WorkloadLog.MOUSE_SCROLLED, X, Y, DELTA); }
+
+    private synchronized void mouse(final byte KIND, final double X, final double Y, final double DELTA) {
+        if (isStopped()) { return; }
+        try {
+            WRITER.mouse(micros(), KIND, X, Y, DELTA);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private synchronized void resized() {
+        if (isStopped()) { return; }
+        try {
+            WRITER.resize(micros(), WORLD.getWidth(), WORLD.getHeight());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    // micros must be taken while holding the lock, the writer needs them in order
+    private long micros() { return (System.nanoTime() - START) / 1000; }
+
+    private boolean isStopped() { return closed || null != error; }
+
+    private void fail(final IOException EXCEPTION) {
+        // stop recording, the exception is thrown by close()
+        error = EXCEPTION;
+        ACTIVE.remove(this);
+        if (this == WORLD.recorder) { WORLD.recorder = null; }
+        // the listeners can only be removed on the FX thread
+        if (Platform.isFxApplicationThread()) {
+            detach();
+        } else {
+            Platform.runLater(this::detach);
+        }
+    }
+
+    private void detach() {
+        ACTIVE.remove(this);
+        WORLD.locations.removeListener(LOCATION_LISTENER);
+        WORLD.removeEventFilter(MouseEvent.ANY, MOUSE_FILTER);
+        WORLD.removeEventFilter(ScrollEvent.SCROLL, SCROLL_FILTER);
+        WORLD.widthProperty().removeListener(SIZE_LISTENER);
+        WORLD.heightProperty().removeListener(SIZE_LISTENER);
+        if (this == WORLD.recorder) { WORLD.recorder = null; }
+    }
+}
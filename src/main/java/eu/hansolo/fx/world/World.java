@@ -16,6 +16,9 @@
 
 package eu.hansolo.fx.world;
 
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.MapChangeListener;
@@ -27,11 +30,15 @@ import javafx.css.StyleableObjectProperty;
 import javafx.css.StyleableProperty;
 import javafx.css.StyleablePropertyFactory;
 import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
 import javafx.scene.CacheHint;
+import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.control.Tooltip;
+import javafx.scene.Scene;
 import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
@@ -39,14 +46,28 @@ import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
 import javafx.scene.shape.Shape;
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+import javafx.util.Duration;
 import org.kordamp.ikonli.Ikon;
 import org.kordamp.ikonli.javafx.FontIcon;
 import org.kordamp.ikonli.materialdesign.MaterialDesign;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 
 /**
@@ -60,9 +81,10 @@ public abstract class World extends Region {
     private static final double                          MINIMUM_HEIGHT   = 66;
     private static final double                          MAXIMUM_WIDTH    = 2018;
     private static final double                          MAXIMUM_HEIGHT   = 1330;
-    private static       double                          MAP_OFFSET_X     = -PREFERRED_WIDTH * 0.0285;
-    private static       double                          MAP_OFFSET_Y     = PREFERRED_HEIGHT * 0.195;
     private static final double                          ASPECT_RATIO     = PREFERRED_HEIGHT / PREFERRED_WIDTH;
+    private static final double                          VIEWPORT_MARGIN  = 0.05;
+    private static final double                          ZOOM_STEP        = 1.2;
+    private static final Duration                        IDLE_DELAY       = Duration.millis(250);
     private static final CssMetaData<World, Color>       BACKGROUND_COLOR = FACTORY.createColorCssMetaData("-background-color", s -> s.backgroundColor, Color.web("#3f3f4f"), false);
     private        final StyleableProperty<Color>        backgroundColor;
     private static final CssMetaData<World, Color>       FILL_COLOR       = FACTORY.createColorCssMetaData("-fill-color", s -> s.fillColor, Color.web("#d9d9dc"), false);
@@ -80,8 +102,47 @@ public abstract class World extends Region {
     //protected            Ikon                            locationIconCode;
     protected            Pane                            pane;
     protected            ScalableContentPane             scalableContentPane;
+    protected            CountryLayer                    countryLayer;
+    protected            Group                           overlay;
+    protected            Group                           layers;
+    private              Group[]                         hoverHighlights;
+    private              Group[]                         pressedHighlights;
+    private              Group                           activeHighlight;
     protected            Map<String, List<CountryPath>>  countryPaths;
     protected            ObservableMap<Location, Shape>  locations;
+    protected            SpatialIndex<Node>              viewportIndex;
+    private              Set<Node>                       nodesInView;
+    private              Set<Node>                       nodesToCheck;
+    private              Set<Node>                       nodesToHide;
+    private              Bounds                          viewportBounds;
+    private              Consumer<Node>                  showInViewport;
+    private              Consumer<Node>                  hideOutsideViewport;
+    private              InvalidationListener            viewportListener;
+    private              Runnable                        viewportUpdate;
+    private              boolean                         viewportUpdatePending;
+    private              boolean                         viewportCulling;
+    private              boolean                         locationsVisible;
+    private              Scale                           zoomScale;
+    private              Translate                       zoomTranslate;
+    private              Rectangle                       clip;
+    private              PauseTransition                 idleTimer;
+    private              boolean                         interacting;
+    private              boolean                         zoomEnabled;
+    private              double                          maxZoomFactor;
+    private              double                          dragX;
+    private              double                          dragY;
+    private              TooltipService                  tooltipService;
+    private              UpdateScheduler                 updateScheduler;
+    private              Queue<Location>                 dirtyLocations;
+    private              AtomicBoolean                   locationsPending;
+    private              Location.Observer               locationObserver;
+    private              Runnable                        locationUpdate;
+    private              WorldMetrics                    metrics;
+    private              PerformanceOverlay              performanceOverlay;
+    private              int                             countryPathCount;
+    private              int                             visibleCountryPathCount;
+    private              CountryOutlines                 outlines;
+    volatile             WorkloadRecorder                recorder;
     // internal event handlers
     protected            EventHandler<MouseEvent>       _mouseEnterHandler;
     protected            EventHandler<MouseEvent>       _mousePressHandler;
@@ -96,6 +157,7 @@ public abstract class World extends Region {
 
     // ******************** Constructors **************************************
     public World() {
+        metrics              = new WorldMetrics(this);
         backgroundColor      = new StyleableObjectProperty<Color>(BACKGROUND_COLOR.getInitialValue(World.this)) {
             @Override protected void invalidated() { setBackground(new Background(new BackgroundFill(get(), CornerRadii.EMPTY, Insets.EMPTY))); }
             @Override public Object getBean() { return World.this; }
@@ -103,25 +165,29 @@ public abstract class World extends Region {
             @Override public CssMetaData<? extends Styleable, Color> getCssMetaData() { return BACKGROUND_COLOR; }
         };
         fillColor            = new StyleableObjectProperty<Color>(FILL_COLOR.getInitialValue(World.this)) {
-            @Override protected void invalidated() { setFillAndStroke(); }
+            @Override protected void invalidated() { applyFillAndStroke(); }
             @Override public Object getBean() { return World.this; }
             @Override public String getName() { return "fillColor"; }
             @Override public CssMetaData<? extends Styleable, Color> getCssMetaData() { return FILL_COLOR; }
         };
         strokeColor          = new StyleableObjectProperty<Color>(STROKE_COLOR.getInitialValue(World.this)) {
-            @Override protected void invalidated() { setFillAndStroke(); }
+            @Override protected void invalidated() {
+                applyFillAndStroke();
+                updateHighlights(hoverHighlights, null, get());
+                updateHighlights(pressedHighlights, null, get());
+            }
             @Override public Object getBean() { return World.this; }
             @Override public String getName() { return "strokeColor"; }
             @Override public CssMetaData<? extends Styleable, Color> getCssMetaData() { return STROKE_COLOR; }
         };
         hoverColor           = new StyleableObjectProperty<Color>(HOVER_COLOR.getInitialValue(World.this)) {
-            @Override protected void invalidated() { }
+            @Override protected void invalidated() { updateHighlights(hoverHighlights, get(), null); }
             @Override public Object getBean() { return World.this; }
             @Override public String getName() { return "hoverColor"; }
             @Override public CssMetaData<? extends Styleable, Color> getCssMetaData() { return HOVER_COLOR; }
         };
         pressedColor         = new StyleableObjectProperty<Color>(PRESSED_COLOR.getInitialValue(this)) {
-            @Override protected void invalidated() { }
+            @Override protected void invalidated() { updateHighlights(pressedHighlights, get(), null); }
             @Override public Object getBean() { return World.this; }
             @Override public String getName() { return "pressedColor"; }
             @Override public CssMetaData<? extends Styleable, Color> getCssMetaData() { return PRESSED_COLOR; }
@@ -136,36 +202,137 @@ public abstract class World extends Region {
         };
         countryPaths         = new HashMap<>();
         locations            = FXCollections.observableHashMap();
+        viewportIndex        = new SpatialIndex<>(0, 0, PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        nodesInView          = new HashSet<>();
+        nodesToCheck         = new HashSet<>();
+        nodesToHide          = new HashSet<>();
+        showInViewport       = node -> show(node);
+        hideOutsideViewport  = node -> { if (!intersectsViewport(node)) { hide(node); } };
+        viewportListener     = o -> requestViewportUpdate();
+        viewportUpdate       = () -> updateViewport();
+        viewportCulling      = true;
+        outlines             = new CountryOutlines(countryPaths, node -> !viewportCulling || nodesInView.contains(node), country -> dropHighlights(country));
+        locationsVisible     = true;
+        zoomScale            = new Scale(1, 1, 0, 0);
+        zoomTranslate        = new Translate(0, 0);
+        clip                 = new Rectangle();
+        idleTimer            = new PauseTransition(IDLE_DELAY);
+        zoomEnabled          = false;
+        maxZoomFactor        = 32;
+        updateScheduler      = new UpdateScheduler(node -> !viewportCulling || nodesInView.contains(node));
+        dirtyLocations       = new ConcurrentLinkedQueue<>();
+        locationsPending     = new AtomicBoolean(false);
+        locationObserver     = new Location.Observer() {
+            @Override public void locationChanged(final Location LOCATION) {
+                dirtyLocations.add(LOCATION);
+                if (locationsPending.compareAndSet(false, true)) { Platform.runLater(locationUpdate); }
+            }
+            // recorded at the rate the position is set, the marker only follows once per batch
+            @Override public void positionChanged(final Location LOCATION, final Location.Position POSITION) {
+                final WorkloadRecorder RECORDER = recorder;
+                if (null != RECORDER) { RECORDER.locationMoved(LOCATION, POSITION); }
+            }
+        };
+        locationUpdate       = () -> updateLocations();
 
         //locationIconCode     = MaterialDesign.MDI_CHECKBOX_BLANK_CIRCLE;
         pane                 = new Pane();
         scalableContentPane  = new ScalableContentPane();
-
-        _mouseEnterHandler   = evt -> handleMouseEvent(evt, mouseEnterHandler);
-        _mousePressHandler   = evt -> handleMouseEvent(evt, mousePressHandler);
-        _mouseReleaseHandler = evt -> handleMouseEvent(evt, mouseReleaseHandler);
-        _mouseExitHandler    = evt -> handleMouseEvent(evt, mouseExitHandler);
+        countryLayer         = new CountryLayer(PREFERRED_WIDTH, PREFERRED_HEIGHT);
+        overlay              = new Group();
+        hoverHighlights      = new Group[0];
+        pressedHighlights    = new Group[0];
+        layers               = new Group();
+        overlay.setMouseTransparent(true);
+        layers.setMouseTransparent(true);
+        layers.setManaged(false);
+        // countries are added to the cached country layer, hover and press states are drawn in the overlay
+        pane.getChildren().setAll(countryLayer, overlay);
+
+        _mouseEnterHandler   = evt -> timedMouseEvent(evt, mouseEnterHandler);
+        _mousePressHandler   = evt -> timedMouseEvent(evt, mousePressHandler);
+        _mouseReleaseHandler = evt -> timedMouseEvent(evt, mouseReleaseHandler);
+        _mouseExitHandler    = evt -> timedMouseEvent(evt, mouseExitHandler);
 
         initGraphics();
+        // the canvases of the layers cover the visible area on top of the map and are not part of its cached bitmap
+        getChildren().add(layers);
+        indexCountryPaths();
+        initZoom();
         registerListeners();
+        tooltipService = new TooltipService(this, this::getTooltipTarget);
     }
 
 
     // ******************** Initialization ************************************
     protected abstract void initGraphics();
 
+    private void initZoom() {
+        // zooming and panning only change these transforms, layout is not involved
+        scalableContentPane.getTransforms().setAll(zoomTranslate, zoomScale);
+        clip.widthProperty().bind(widthProperty());
+        clip.heightProperty().bind(heightProperty());
+        setClip(clip);
+        idleTimer.setOnFinished(e -> endInteraction());
+    }
+
+    private void indexCountryPaths() {
+        for (List<CountryPath> paths : countryPaths.values()) {
+            for (CountryPath path : paths) { addToViewportIndex(path); }
+            countryPathCount += paths.size();
+        }
+        // the scale of the map is derived from the size of the content, culled or clipped outlines must not change it
+        pane.setPrefSize(pane.prefWidth(-1), pane.prefHeight(-1));
+    }
+
     private void registerListeners() {
         widthProperty().addListener(o -> resize());
         heightProperty().addListener(o -> resize());
         locations.addListener(new MapChangeListener<Location, Shape>() {
             @Override public void onChanged(final Change<? extends Location, ? extends Shape> change) {
+                if (change.wasRemoved()) {
+                    if (locationObserver == change.getKey().getObserver()) { change.getKey().setObserver(null); }
+                    pane.getChildren().remove(change.getValueRemoved());
+                    tooltipService.invalidate(change.getKey());
+                    removeFromViewportIndex(change.getValueRemoved());
+                }
                 if (change.wasAdded()) {
+                    change.getKey().setObserver(locationObserver);
+                    change.getKey().clearDirty();
                     pane.getChildren().add(change.getValueAdded());
-                } else if(change.wasRemoved()) {
-                    pane.getChildren().remove(change.getValueRemoved());
+                    addToViewportIndex(change.getValueAdded());
                 }
             }
         });
+        // the transform of the content pane changes on resize, zoom and when scrolled inside a ScrollPane
+        pane.localToSceneTransformProperty().addListener(viewportListener);
+        sceneProperty().addListener((o, oldScene, newScene) -> {
+            if (null != oldScene) {
+                oldScene.widthProperty().removeListener(viewportListener);
+                oldScene.heightProperty().removeListener(viewportListener);
+            }
+            if (null != newScene) {
+                newScene.widthProperty().addListener(viewportListener);
+                newScene.heightProperty().addListener(viewportListener);
+            }
+            requestViewportUpdate();
+        });
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            if (!zoomEnabled || 0 == e.getDeltaY()) { return; }
+            zoomBy(Math.pow(ZOOM_STEP, e.getDeltaY() / 40.0), e.getX(), e.getY());
+            e.consume();
+        });
+        addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+            dragX = e.getX();
+            dragY = e.getY();
+        });
+        addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+            if (!zoomEnabled || getZoomFactor() <= 1) { return; }
+            beginInteraction();
+            setZoomTranslate(zoomTranslate.getX() + e.getX() - dragX, zoomTranslate.getY() + e.getY() - dragY);
+            dragX = e.getX();
+            dragY = e.getY();
+        });
     }
 
 
@@ -181,6 +348,77 @@ public abstract class World extends Region {
 
     public Map<String, List<CountryPath>> getCountryPaths() { return countryPaths; }
 
+    /**
+     * Returns the tooltip service that shows the names of countries and
+     * locations, there is one tooltip per world.
+     */
+    public TooltipService getTooltipService() { return tooltipService; }
+
+    /**
+     * Returns the scheduler that spreads large numbers of fill and position
+     * changes over several pulses, visible nodes first.
+     */
+    public UpdateScheduler getUpdateScheduler() { return updateScheduler; }
+
+    /**
+     * @return the runtime metrics of this world, they can be published via JMX
+     */
+    public WorldMetrics getMetrics() { return metrics; }
+
+    /**
+     * Shows FPS, frame and pulse time, level of detail, culling, marker count, the
+     * cost of the last mouse event and cache hit rates on top of the map.
+     */
+    public boolean isPerformanceOverlayVisible() { return null != performanceOverlay && getChildren().contains(performanceOverlay); }
+    public void setPerformanceOverlayVisible(final boolean VISIBLE) {
+        if (VISIBLE == isPerformanceOverlayVisible()) { return; }
+        if (VISIBLE) {
+            if (null == performanceOverlay) { performanceOverlay = new PerformanceOverlay(this); }
+            getChildren().add(performanceOverlay);
+            performanceOverlay.start();
+        } else {
+            performanceOverlay.stop();
+            getChildren().remove(performanceOverlay);
+        }
+    }
+
+    int getCountryPathCount() { return countryPathCount; }
+
+    /**
+     * @return the number of country paths that were not culled in the last viewport update
+     */
+    int getVisibleCountryPathCount() { return visibleCountryPathCount; }
+
+    /**
+     * Sets the fill of all paths of the given country within the update
+     * budget of the next pulses instead of immediately.
+     */
+    public void scheduleCountryFill(final Country COUNTRY, final Color FILL) {
+        for (CountryPath path : COUNTRY.getPaths()) { updateScheduler.scheduleFill(path, FILL); }
+        if (null != recorder) { recorder.countryFill(COUNTRY, FILL); }
+    }
+
+    /**
+     * Adds a layer that draws many items on one canvas above the countries.
+     */
+    public void addLayer(final MapLayer LAYER) {
+        if (layers.getChildren().contains(LAYER)) { return; }
+        layers.getChildren().add(LAYER);
+        LAYER.world = this;
+        requestViewportUpdate();
+    }
+    public void removeLayer(final MapLayer LAYER) {
+        if (layers.getChildren().remove(LAYER)) { LAYER.world = null; }
+    }
+
+    private Object getTooltipTarget(final Node PICKED_NODE) {
+        for (Node node = PICKED_NODE ; null != node && node != this ; node = node.getParent()) {
+            if (node instanceof CountryPath)    { return ((CountryPath) node).getCountry(); }
+            if (node instanceof LocationMarker) { return ((LocationMarker) node).LOCATION; }
+        }
+        return null;
+    }
+
     public void setMouseEnterHandler(final EventHandler<MouseEvent> HANDLER) { mouseEnterHandler = HANDLER; }
     public void setMousePressHandler(final EventHandler<MouseEvent> HANDLER) { mousePressHandler = HANDLER; }
     public void setMouseReleaseHandler(final EventHandler<MouseEvent> HANDLER) { mouseReleaseHandler = HANDLER;  }
@@ -214,10 +452,11 @@ public abstract class World extends Region {
     //public void setLocationIconCode(final Ikon ICON_CODE) { locationIconCode = ICON_CODE; }
 
     public void addLocation(final Location LOCATION) {
-        double x = (LOCATION.getLongitude() + 180) * (PREFERRED_WIDTH / 360) + MAP_OFFSET_X;
-        double y = (PREFERRED_HEIGHT / 2) - (PREFERRED_WIDTH * (Math.log(Math.tan((Math.PI / 4) + (Math.toRadians(LOCATION.getLatitude()) / 2)))) / (2 * Math.PI)) + MAP_OFFSET_Y;
+        final Location.Position POSITION = LOCATION.getPosition();
+        double x = POSITION.getX();
+        double y = POSITION.getY();
 
-        Shape locationIcon = new Circle(x, y, 3);
+        Shape locationIcon = new LocationMarker(LOCATION, x, y, 3);
         locationIcon.setFill(null == LOCATION.getColor() ? getLocationColor() : LOCATION.getColor());
 
         /*
@@ -227,14 +466,6 @@ public abstract class World extends Region {
         locationIcon.relocate(x, y);
         */
 
-        StringBuilder tooltipBuilder = new StringBuilder();
-        if (!LOCATION.getName().isEmpty()) tooltipBuilder.append(LOCATION.getName());
-        if (!LOCATION.getInfo().isEmpty()) tooltipBuilder.append("\n").append(LOCATION.getInfo());
-        String tooltipText = tooltipBuilder.toString();
-        if (!tooltipText.isEmpty()) {
-            Tooltip.install(locationIcon, new Tooltip(tooltipText));
-        }
-
         locations.put(LOCATION, locationIcon);
     }
     public void removeLocation(final Location LOCATION) {
@@ -242,21 +473,224 @@ public abstract class World extends Region {
     }
 
     public void addLocations(final Location... LOCATIONS) {
-        for (Location location : LOCATIONS) { addLocation(location); }
+        scalableContentPane.beginUpdate();
+        try {
+            for (Location location : LOCATIONS) { addLocation(location); }
+        } finally {
+            scalableContentPane.endUpdate();
+        }
+    }
+    public void clearLocations() {
+        scalableContentPane.beginUpdate();
+        try {
+            locations.clear();
+        } finally {
+            scalableContentPane.endUpdate();
+        }
+    }
+
+    /**
+     * Applies the changes of locations since the last pulse. Setters of a
+     * Location only set flags, here the affected markers are moved, recolored
+     * or get a new tooltip text, each once no matter how often it changed.
+     */
+    private void updateLocations() {
+        locationsPending.set(false);
+        Location location;
+        while (null != (location = dirtyLocations.poll())) {
+            final int   FLAGS  = location.clearDirty();
+            final Shape MARKER = locations.get(location);
+            if (0 == FLAGS || null == MARKER) { continue; }
+            if ((FLAGS & Location.POSITION) != 0) {
+                final Location LOCATION = location;
+                // the marker is moved to the latest position when the scheduler gets to it
+                updateScheduler.schedule(MARKER, UpdateScheduler.RELOCATE, () -> moveMarker(LOCATION, MARKER));
+            }
+            if ((FLAGS & Location.STYLE) != 0) {
+                updateScheduler.scheduleFill(MARKER, null == location.getColor() ? getLocationColor() : location.getColor());
+            }
+            if ((FLAGS & Location.TEXT) != 0) {
+                tooltipService.invalidate(location);
+            }
+        }
+    }
+
+    private void moveMarker(final Location LOCATION, final Shape MARKER) {
+        // the location might have been removed in the meantime
+        if (locations.get(LOCATION) != MARKER) { return; }
+        final Circle            CIRCLE   = (Circle) MARKER;
+        final Location.Position POSITION = LOCATION.getPosition();
+        CIRCLE.setCenterX(POSITION.getX());
+        CIRCLE.setCenterY(POSITION.getY());
+        addToViewportIndex(MARKER);
+        for (Node layer : layers.getChildren()) { ((MapLayer) layer).locationMoved(LOCATION); }
     }
-    public void clearLocations() { locations.clear(); }
 
     public void showLocations(final boolean SHOW) {
+        locationsVisible = SHOW;
         for (Shape shape : locations.values()) {
             shape.setManaged(SHOW);
-            shape.setVisible(SHOW);
+            shape.setVisible(SHOW && nodesInView.contains(shape));
+        }
+    }
+
+    /**
+     * Returns true if countries and locations outside of the visible area
+     * (e.g. when the world is zoomed or placed in a ScrollPane) are hidden.
+     */
+    public boolean isViewportCulling() { return viewportCulling; }
+    public void setViewportCulling(final boolean CULLING) {
+        if (CULLING == viewportCulling) { return; }
+        viewportCulling = CULLING;
+        if (CULLING) {
+            requestViewportUpdate();
+        } else {
+            viewportIndex.forEach(showInViewport);
+            nodesToCheck.clear();
+            nodesToHide.clear();
+            viewportBounds = null;
         }
     }
 
+    /**
+     * Rings of the country outlines (islands, enclaves, small countries)
+     * whose area on screen is below the given number of square pixels are
+     * left out of the rendered paths, or replaced by a dot of one pixel if
+     * small feature dots are enabled. Without dots, paths that lose all
+     * their rings are hidden and not hit tested. The rings are recalculated
+     * when the scale changes by more than half a zoom octave. 0 disables the
+     * culling.
+     */
+    public double getSmallFeatureThreshold() { return outlines.getMinFeatureArea(); }
+    public void setSmallFeatureThreshold(final double SQUARE_PIXELS) {
+        outlines.setMinFeatureArea(SQUARE_PIXELS);
+        requestViewportUpdate();
+    }
+
+    public boolean isSmallFeatureDots() { return outlines.isDots(); }
+    public void setSmallFeatureDots(final boolean DOTS) {
+        if (DOTS == outlines.isDots()) { return; }
+        outlines.setDots(DOTS);
+        outlines.restore();
+        requestViewportUpdate();
+    }
+
+    /**
+     * @return the number of rings that are currently skipped or drawn as a dot
+     */
+    public int getCulledRingCount() { return outlines.getCulledRingCount(); }
+
+    /**
+     * Once a map unit covers at least the given number of screen pixels the
+     * country outlines are clipped to the visible part of the map, so only
+     * the visible parts of large countries are rendered. 0 disables clipping.
+     */
+    public double getClippingScale() { return outlines.getClippingScale(); }
+    public void setClippingScale(final double SCALE) {
+        outlines.setClippingScale(SCALE);
+        requestViewportUpdate();
+    }
+
+    /**
+     * @return the number of country paths that are currently clipped to the visible area
+     */
+    public int getClippedPathCount() { return outlines.getClippedPathCount(); }
+
     protected abstract void handleMouseEvent(final MouseEvent EVENT, final EventHandler<MouseEvent> HANDLER);
 
+    /**
+     * Shows the hover or pressed state of the given country in the overlay,
+     * the cached country layer stays untouched. The highlight of a country is
+     * created once, cached as a bitmap and looked up by the ordinal of the
+     * country, so showing it costs the same for every country. It shows the
+     * same outline as the country paths, e.g. clipped at high zoom, and is
+     * created again when they are rewritten.
+     */
+    protected void highlight(final Country COUNTRY, final boolean PRESSED) {
+        final Group HIGHLIGHT = getHighlight(COUNTRY, PRESSED);
+        if (HIGHLIGHT == activeHighlight) { return; }
+        if (null != activeHighlight) { activeHighlight.setVisible(false); }
+        HIGHLIGHT.setVisible(true);
+        activeHighlight = HIGHLIGHT;
+    }
+
+    protected void clearHighlight() {
+        if (null == activeHighlight) { return; }
+        activeHighlight.setVisible(false);
+        activeHighlight = null;
+    }
+
+    private Group getHighlight(final Country COUNTRY, final boolean PRESSED) {
+        final int ORDINAL = COUNTRY.ordinal();
+        if (ORDINAL >= hoverHighlights.length) {
+            hoverHighlights   = Arrays.copyOf(hoverHighlights, ORDINAL + 1);
+            pressedHighlights = Arrays.copyOf(pressedHighlights, ORDINAL + 1);
+        }
+        final Group[] HIGHLIGHTS = PRESSED ? pressedHighlights : hoverHighlights;
+        Group highlight = HIGHLIGHTS[ORDINAL];
+        if (null == highlight) {
+            final Color FILL = PRESSED ? getPressedColor() : getHoverColor();
+            highlight = new Group();
+            for (CountryPath path : COUNTRY.getPaths()) {
+                if (outlines.isHidden(path)) { continue; }
+                SVGPath shape = new SVGPath();
+                shape.setContent(path.getContent());
+                shape.setFill(FILL);
+                shape.setStroke(getStrokeColor());
+                shape.setStrokeWidth(path.getStrokeWidth());
+                highlight.getChildren().add(shape);
+            }
+            highlight.setVisible(false);
+            highlight.setCache(true);
+            highlight.setCacheHint(CacheHint.QUALITY);
+            overlay.getChildren().add(highlight);
+            HIGHLIGHTS[ORDINAL] = highlight;
+        }
+        return highlight;
+    }
+
+    private void dropHighlights(final Country COUNTRY) {
+        final int ORDINAL = COUNTRY.ordinal();
+        if (ORDINAL >= hoverHighlights.length) { return; }
+        final Group HOVER   = hoverHighlights[ORDINAL];
+        final Group PRESSED = pressedHighlights[ORDINAL];
+        if (null == HOVER && null == PRESSED) { return; }
+        hoverHighlights[ORDINAL]   = null;
+        pressedHighlights[ORDINAL] = null;
+        if (null != HOVER)   { overlay.getChildren().remove(HOVER); }
+        if (null != PRESSED) { overlay.getChildren().remove(PRESSED); }
+        // a highlight that is shown is replaced right away
+        if (null != activeHighlight && (HOVER == activeHighlight || PRESSED == activeHighlight)) {
+            final boolean WAS_PRESSED = PRESSED == activeHighlight;
+            activeHighlight = null;
+            highlight(COUNTRY, WAS_PRESSED);
+        }
+    }
+
+    private void updateHighlights(final Group[] HIGHLIGHTS, final Color FILL, final Color STROKE) {
+        for (Group highlight : HIGHLIGHTS) {
+            if (null == highlight) { continue; }
+            for (Node node : highlight.getChildren()) {
+                if (null != FILL)   { ((SVGPath) node).setFill(FILL); }
+                if (null != STROKE) { ((SVGPath) node).setStroke(STROKE); }
+            }
+        }
+    }
+
     protected abstract void setFillAndStroke();
 
+    private void applyFillAndStroke() {
+        final long START = System.nanoTime();
+        setFillAndStroke();
+        metrics.fillAndStrokeApplied(System.nanoTime() - START);
+    }
+
+    private void timedMouseEvent(final MouseEvent EVENT, final EventHandler<MouseEvent> HANDLER) {
+        final long START = System.nanoTime();
+        handleMouseEvent(EVENT, HANDLER);
+        metrics.mouseEventHandled(System.nanoTime() - START);
+    }
+
 
     // ******************** Style related *************************************
     @Override public String getUserAgentStylesheet() {
@@ -268,8 +702,246 @@ public abstract class World extends Region {
     @Override public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() { return FACTORY.getCssMetaData(); }
 
 
+    /**
+     * Enables zooming with the mouse wheel and panning by dragging the map.
+     */
+    public boolean isZoomEnabled() { return zoomEnabled; }
+    public void setZoomEnabled(final boolean ENABLED) {
+        zoomEnabled = ENABLED;
+        if (!ENABLED) { resetZoom(); }
+    }
+
+    public double getMaxZoomFactor() { return maxZoomFactor; }
+    public void setMaxZoomFactor(final double FACTOR) {
+        maxZoomFactor = Math.max(1, FACTOR);
+        if (getZoomFactor() > maxZoomFactor) { zoomBy(maxZoomFactor / getZoomFactor(), getWidth() * 0.5, getHeight() * 0.5); }
+    }
+
+    public double getZoomFactor() { return zoomScale.getX(); }
+    public void setZoomFactor(final double FACTOR) { zoomBy(FACTOR / getZoomFactor(), getWidth() * 0.5, getHeight() * 0.5); }
+
+    /**
+     * Multiplies the current zoom factor by the given factor while keeping
+     * the given point (in the coordinates of this world) in place.
+     */
+    public void zoomBy(final double FACTOR, final double PIVOT_X, final double PIVOT_Y) {
+        final double OLD_ZOOM = getZoomFactor();
+        final double NEW_ZOOM = clamp(OLD_ZOOM * FACTOR, 1, maxZoomFactor);
+        if (Double.compare(OLD_ZOOM, NEW_ZOOM) == 0) { return; }
+        beginInteraction();
+        final double PIVOT_X_IN_PANE = PIVOT_X - scalableContentPane.getLayoutX();
+        final double PIVOT_Y_IN_PANE = PIVOT_Y - scalableContentPane.getLayoutY();
+        final double RATIO           = NEW_ZOOM / OLD_ZOOM;
+        zoomScale.setX(NEW_ZOOM);
+        zoomScale.setY(NEW_ZOOM);
+        setZoomTranslate(PIVOT_X_IN_PANE - (PIVOT_X_IN_PANE - zoomTranslate.getX()) * RATIO,
+                         PIVOT_Y_IN_PANE - (PIVOT_Y_IN_PANE - zoomTranslate.getY()) * RATIO);
+    }
+
+    public void resetZoom() {
+        zoomScale.setX(1);
+        zoomScale.setY(1);
+        setZoomTranslate(0, 0);
+    }
+
+    private void setZoomTranslate(final double X, final double Y) {
+        // keep the map covering the area of the scalable content pane
+        final double ZOOM = getZoomFactor();
+        zoomTranslate.setX(clamp(X, scalableContentPane.getWidth() * (1 - ZOOM), 0));
+        zoomTranslate.setY(clamp(Y, scalableContentPane.getHeight() * (1 - ZOOM), 0));
+    }
+
+    /**
+     * While the user zooms or pans the content is rendered from a cached
+     * bitmap that is only scaled. Once the input is idle the cache is
+     * dropped and the map is rendered in full vector quality again.
+     */
+    private void beginInteraction() {
+        if (!interacting) {
+            interacting = true;
+            pane.setCache(true);
+            pane.setCacheHint(CacheHint.SCALE);
+            countryLayer.setInteractive(true);
+        }
+        idleTimer.playFromStart();
+    }
+
+    private void endInteraction() {
+        interacting = false;
+        pane.setCacheHint(CacheHint.DEFAULT);
+        pane.setCache(false);
+        // the tiles of the country layer are rendered again at the new scale when they are drawn next time
+        countryLayer.setInteractive(false);
+        requestViewportUpdate();
+    }
+
+    private static double clamp(final double VALUE, final double MIN, final double MAX) {
+        return VALUE < MIN ? MIN : (VALUE > MAX ? MAX : VALUE);
+    }
+
+
+    // ******************** Viewport culling **********************************
+    /**
+     * Adds the given node to the index or updates its bounds, new nodes are
+     * visible until the next viewport update checks them.
+     */
+    private void addToViewportIndex(final Node NODE) {
+        final boolean NEW    = !viewportIndex.contains(NODE);
+        final Bounds  BOUNDS = NODE.getBoundsInParent();
+        viewportIndex.add(NODE, BOUNDS.getMinX(), BOUNDS.getMinY(), BOUNDS.getMaxX(), BOUNDS.getMaxY());
+        if (NEW && nodesInView.add(NODE) && NODE instanceof CountryPath) { visibleCountryPathCount++; }
+        nodesToCheck.add(NODE);
+        requestViewportUpdate();
+    }
+
+    private void removeFromViewportIndex(final Node NODE) {
+        viewportIndex.remove(NODE);
+        if (nodesInView.remove(NODE) && NODE instanceof CountryPath) { visibleCountryPathCount--; }
+        nodesToCheck.remove(NODE);
+        nodesToHide.remove(NODE);
+    }
+
+    private void requestViewportUpdate() {
+        if (viewportUpdatePending || (!viewportCulling && layers.getChildren().isEmpty() && !outlines.isEnabled())) { return; }
+        viewportUpdatePending = true;
+        Platform.runLater(viewportUpdate);
+    }
+
+    private void updateViewport() {
+        viewportUpdatePending = false;
+        // revalidate the transform, otherwise the invalidation listener would not be called again
+        pane.getLocalToSceneTransform();
+        if (null == getScene()) { return; }
+
+        Bounds visibleBounds = computeVisibleBounds();
+        updateLayers(visibleBounds);
+        outlines.update(pane.getLocalToSceneTransform().getMxx(), visibleBounds, interacting);
+        // the outlines may have been clipped, so the size of the tile bitmaps is checked afterwards
+        countryLayer.setScreenScale(pane.getLocalToSceneTransform().getMxx());
+        if (!viewportCulling) { return; }
+
+        // only the strips of the map that entered or left the visible area are queried
+        final Bounds PREVIOUS_BOUNDS = viewportBounds;
+        viewportBounds = visibleBounds;
+        if (null == visibleBounds || null == PREVIOUS_BOUNDS) {
+            nodesToCheck.addAll(nodesInView);
+            if (null != visibleBounds) { query(visibleBounds, showInViewport); }
+        } else if (!visibleBounds.equals(PREVIOUS_BOUNDS)) {
+            queryDifference(visibleBounds, PREVIOUS_BOUNDS, showInViewport);
+            queryDifference(PREVIOUS_BOUNDS, visibleBounds, hideOutsideViewport);
+        }
+        if (!interacting && !nodesToHide.isEmpty()) {
+            nodesToCheck.addAll(nodesToHide);
+            nodesToHide.clear();
+        }
+        if (!nodesToCheck.isEmpty()) {
+            for (Node node : nodesToCheck) {
+                if (intersectsViewport(node)) { show(node); } else { hide(node); }
+            }
+            nodesToCheck.clear();
+        }
+    }
+
+    private void query(final Bounds AREA, final Consumer<Node> CONSUMER) {
+        viewportIndex.query(AREA.getMinX(), AREA.getMinY(), AREA.getMaxX(), AREA.getMaxY(), CONSUMER);
+    }
+
+    /**
+     * Queries the part of AREA that is not covered by EXCLUDED as up to four strips.
+     */
+    private void queryDifference(final Bounds AREA, final Bounds EXCLUDED, final Consumer<Node> CONSUMER) {
+        if (!AREA.intersects(EXCLUDED)) {
+            query(AREA, CONSUMER);
+            return;
+        }
+        final double MIN_Y = Math.max(AREA.getMinY(), EXCLUDED.getMinY());
+        final double MAX_Y = Math.min(AREA.getMaxY(), EXCLUDED.getMaxY());
+        if (AREA.getMinY() < EXCLUDED.getMinY()) { viewportIndex.query(AREA.getMinX(), AREA.getMinY(), AREA.getMaxX(), EXCLUDED.getMinY(), CONSUMER); }
+        if (AREA.getMaxY() > EXCLUDED.getMaxY()) { viewportIndex.query(AREA.getMinX(), EXCLUDED.getMaxY(), AREA.getMaxX(), AREA.getMaxY(), CONSUMER); }
+        if (AREA.getMinX() < EXCLUDED.getMinX()) { viewportIndex.query(AREA.getMinX(), MIN_Y, EXCLUDED.getMinX(), MAX_Y, CONSUMER); }
+        if (AREA.getMaxX() > EXCLUDED.getMaxX()) { viewportIndex.query(EXCLUDED.getMaxX(), MIN_Y, AREA.getMaxX(), MAX_Y, CONSUMER); }
+    }
+
+    private boolean intersectsViewport(final Node NODE) {
+        final Bounds B = viewportBounds;
+        return null != B && viewportIndex.intersects(NODE, B.getMinX(), B.getMinY(), B.getMaxX(), B.getMaxY());
+    }
+
+    private void show(final Node NODE) {
+        if (!nodesInView.add(NODE)) { return; }
+        if (NODE instanceof CountryPath) { visibleCountryPathCount++; }
+        setInView(NODE, true);
+    }
+
+    private void hide(final Node NODE) {
+        if (!nodesInView.contains(NODE)) { return; }
+        if (interacting) {
+            // hiding nodes would invalidate the cached bitmap, this is done once the interaction ended
+            nodesToHide.add(NODE);
+            return;
+        }
+        nodesInView.remove(NODE);
+        if (NODE instanceof CountryPath) { visibleCountryPathCount--; }
+        setInView(NODE, false);
+    }
+
+    private void updateLayers(final Bounds VISIBLE_BOUNDS) {
+        if (layers.getChildren().isEmpty()) { return; }
+        final Transform MAP_TO_SCENE = pane.getLocalToSceneTransform();
+        final Transform SCENE_TO_LOCAL;
+        try {
+            SCENE_TO_LOCAL = layers.getLocalToSceneTransform().createInverse();
+        } catch (NonInvertibleTransformException e) {
+            return;
+        }
+        for (Node layer : layers.getChildren()) { ((MapLayer) layer).setViewport(MAP_TO_SCENE, SCENE_TO_LOCAL, VISIBLE_BOUNDS, interacting); }
+    }
+
+    private void setInView(final Node NODE, final boolean IN_VIEW) {
+        if (NODE instanceof CountryPath) {
+            // paths outside of the viewport don't keep their geometry, it is rebuilt from the GeometryStore
+            if (IN_VIEW) { outlines.reload((CountryPath) NODE); } else { outlines.release((CountryPath) NODE); }
+            NODE.setVisible(IN_VIEW && !outlines.isHidden((CountryPath) NODE));
+        } else {
+            NODE.setVisible(IN_VIEW && locationsVisible);
+        }
+        updateScheduler.visibilityChanged(NODE, IN_VIEW);
+    }
+
+    /**
+     * Returns the part of the map that is visible on screen in the coordinate
+     * system of the content pane (incl. a small margin) or null if nothing is
+     * visible. Takes the clips of all parents into account.
+     */
+    private Bounds computeVisibleBounds() {
+        final Scene SCENE = getScene();
+        Bounds bounds = localToScene(getLayoutBounds());
+        double minX   = Math.max(bounds.getMinX(), 0);
+        double minY   = Math.max(bounds.getMinY(), 0);
+        double maxX   = Math.min(bounds.getMaxX(), SCENE.getWidth());
+        double maxY   = Math.min(bounds.getMaxY(), SCENE.getHeight());
+        for (Node node = this ; null != node ; node = node.getParent()) {
+            Node clip = node.getClip();
+            if (null == clip) { continue; }
+            Bounds clipBounds = node.localToScene(clip.getBoundsInParent());
+            minX = Math.max(minX, clipBounds.getMinX());
+            minY = Math.max(minY, clipBounds.getMinY());
+            maxX = Math.min(maxX, clipBounds.getMaxX());
+            maxY = Math.min(maxY, clipBounds.getMaxY());
+        }
+        if (minX >= maxX || minY >= maxY) { return null; }
+
+        bounds = pane.sceneToLocal(new BoundingBox(minX, minY, maxX - minX, maxY - minY));
+        final double MARGIN_X = bounds.getWidth() * VIEWPORT_MARGIN;
+        final double MARGIN_Y = bounds.getHeight() * VIEWPORT_MARGIN;
+        return new BoundingBox(bounds.getMinX() - MARGIN_X, bounds.getMinY() - MARGIN_Y, bounds.getWidth() + 2 * MARGIN_X, bounds.getHeight() + 2 * MARGIN_Y);
+    }
+
+
     // ******************** Resizing ******************************************
     private void resize() {
+        final double OLD_WIDTH  = width;
+        final double OLD_HEIGHT = height;
         width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
         height = getHeight() - getInsets().getTop() - getInsets().getBottom();
 
@@ -280,14 +952,28 @@ public abstract class World extends Region {
         }
 
         if (width > 0 && height > 0) {
-            pane.setCache(true);
-            pane.setCacheHint(CacheHint.SCALE);
+            // scale the cached bitmaps during a series of resizes and render them again once it is over
+            if (OLD_WIDTH > 0 && OLD_HEIGHT > 0) { beginInteraction(); }
 
             scalableContentPane.setMaxSize(width, height);
             scalableContentPane.setPrefSize(width, height);
             scalableContentPane.relocate((getWidth() - width) * 0.5, (getHeight() - height) * 0.5);
 
-            pane.setCache(false);
+            if (OLD_WIDTH > 0 && OLD_HEIGHT > 0) {
+                zoomTranslate.setX(zoomTranslate.getX() * width / OLD_WIDTH);
+                zoomTranslate.setY(zoomTranslate.getY() * height / OLD_HEIGHT);
+            }
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static class LocationMarker extends Circle {
+        private final Location LOCATION;
+
+        LocationMarker(final Location LOCATION, final double CENTER_X, final double CENTER_Y, final double RADIUS) {
+            super(CENTER_X, CENTER_Y, RADIUS);
+            this.LOCATION = LOCATION;
         }
     }
 }
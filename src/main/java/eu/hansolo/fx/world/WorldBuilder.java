@@ -120,6 +120,18 @@ public class WorldBuilder<B extends WorldBuilder<B>> {
         return (B)this;
     }
 
+    @SuppressWarnings("unchecked")
+    public final B zoomEnabled(final boolean ENABLED) {
+        properties.put("zoomEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public final B maxZoomFactor(final double FACTOR) {
+        properties.put("maxZoomFactor", new SimpleDoubleProperty(FACTOR));
+        return (B)this;
+    }
+
     public final B prefSize(final double WIDTH, final double HEIGHT) {
         properties.put("prefSize", new SimpleObjectProperty<>(new Dimension2D(WIDTH, HEIGHT)));
         return (B)this;
@@ -260,6 +272,10 @@ public class WorldBuilder<B extends WorldBuilder<B>> {
                 CONTROL.addLocations(((ObjectProperty<Location[]>) properties.get(key)).get());
             } else if ("showLocations".equals(key)) {
                 CONTROL.showLocations(((BooleanProperty) properties.get(key)).get());
+            } else if ("zoomEnabled".equals(key)) {
+                CONTROL.setZoomEnabled(((BooleanProperty) properties.get(key)).get());
+            } else if ("maxZoomFactor".equals(key)) {
+                CONTROL.setMaxZoomFactor(((DoubleProperty) properties.get(key)).get());
             } else if ("locationIconCode".equals(key)) {
                 //CONTROL.setLocationIconCode(((ObjectProperty<Ikon>) properties.get(key)).get());
             }
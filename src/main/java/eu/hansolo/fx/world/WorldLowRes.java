@@ -25,7 +25,6 @@ import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.SVGPath;
 
 import java.util.List;
 
@@ -70,11 +69,11 @@ public class WorldLowRes extends World {
 
         for(CountryLowRes country : CountryLowRes.values()) {
             List<CountryPath> paths = country.getPaths();
-            pane.getChildren().addAll(paths);
 
             countryPaths.put(country.name(), paths);
 
             for(CountryPath path : paths) {
+                countryLayer.add(path);
                 path.setFill(fill);
                 path.setStroke(stroke);
                 path.setStrokeWidth(0.5);
@@ -94,17 +93,17 @@ public class WorldLowRes extends World {
 
     protected void handleMouseEvent(final MouseEvent EVENT, final EventHandler<MouseEvent> HANDLER) {
         final CountryPath COUNTRY_PATH = (CountryPath) EVENT.getSource();
-        final String      COUNTRY_NAME = COUNTRY_PATH.getName();
+        final Country     COUNTRY      = COUNTRY_PATH.getCountry();
 
         final EventType TYPE = EVENT.getEventType();
         if (MOUSE_ENTERED == TYPE) {
-            for (SVGPath path : CountryLowRes.valueOf(COUNTRY_NAME).getPaths()) { path.setFill(getHoverColor()); }
+            highlight(COUNTRY, false);
         } else if (MOUSE_PRESSED == TYPE) {
-            for (SVGPath path : CountryLowRes.valueOf(COUNTRY_NAME).getPaths()) { path.setFill(getPressedColor()); }
+            highlight(COUNTRY, true);
         } else if (MOUSE_RELEASED == TYPE) {
-            for (SVGPath path : CountryLowRes.valueOf(COUNTRY_NAME).getPaths()) { path.setFill(getHoverColor()); }
+            highlight(COUNTRY, false);
         } else if (MOUSE_EXITED == TYPE) {
-            for (SVGPath path : CountryLowRes.valueOf(COUNTRY_NAME).getPaths()) { path.setFill(getFillColor()); }
+            clearHighlight();
         }
 
         if (null != HANDLER) HANDLER.handle(EVENT);
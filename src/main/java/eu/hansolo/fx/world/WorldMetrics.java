@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.util.Duration;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Live metrics of a World. The counters on the hot paths (layout, fill and
+ * stroke, mouse events) are LongAdders and do not allocate. Node counts,
+ * location count and update backlog are sampled on the FX thread in a fixed
+ * interval, but only while a listener is attached or the metrics are
+ * registered as MBean.
+ */
+public final class WorldMetrics implements WorldMetricsMXBean {
+    private static final String                  DOMAIN          = "eu.hansolo.fx.world";
+    private        final World                   WORLD;
+    private        final LongAdder               FILL_AND_STROKE_COUNT;
+    private        final LongAdder               FILL_AND_STROKE_NANOS;
+    private        final LongAdder               MOUSE_EVENT_COUNT;
+    private        final LongAdder               MOUSE_EVENT_NANOS;
+    private        final List<Listener>          LISTENERS;
+    private        final AnimationTimer          SAMPLER;
+    private volatile     Map<String, Integer>    nodeCounts;
+    private volatile     int                     locationCount;
+    private volatile     int                     updateBacklog;
+    private volatile     long                    geometryBytes;
+    private volatile     long                    lastMouseEventNanos;
+    private              long                    sampleInterval;
+    private              long                    lastSample;
+    private              boolean                 sampling;
+    private              ObjectName              objectName;
+
+
+    // ******************** Constructors **************************************
+    WorldMetrics(final World WORLD) {
+        this.WORLD                 = WORLD;
+        this.FILL_AND_STROKE_COUNT = new LongAdder();
+        this.FILL_AND_STROKE_NANOS = new LongAdder();
+        this.MOUSE_EVENT_COUNT     = new LongAdder();
+        this.MOUSE_EVENT_NANOS     = new LongAdder();
+        this.LISTENERS             = new CopyOnWriteArrayList<>();
+        this.nodeCounts            = Collections.emptyMap();
+        this.geometryBytes         = -1;
+        this.sampleInterval        = 1_000_000_000L;
+        this.SAMPLER               = new AnimationTimer() {
+            @Override public void handle(final long NOW) {
+                if (NOW - lastSample < sampleInterval) { return; }
+                lastSample = NOW;
+                sample();
+            }
+        };
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public Map<String, Integer> getNodeCounts() { return nodeCounts; }
+
+    @Override public int getLocationCount() { return locationCount; }
+
+    @Override public long getLayoutPasses() { return WORLD.scalableContentPane.getLayoutCount(); }
+
+    @Override public long getComputeScaleNanos() { return WORLD.scalableContentPane.getComputeScaleNanos(); }
+
+    @Override public long getFillAndStrokeCount() { return FILL_AND_STROKE_COUNT.sum(); }
+
+    @Override public long getFillAndStrokeNanos() { return FILL_AND_STROKE_NANOS.sum(); }
+
+    @Override public long getMouseEventCount() { return MOUSE_EVENT_COUNT.sum(); }
+
+    @Override public long getMouseEventNanos() { return MOUSE_EVENT_NANOS.sum(); }
+
+    @Override public long getLastMouseEventNanos() { return lastMouseEventNanos; }
+
+    @Override public int getUpdateBacklog() { return updateBacklog; }
+
+    /**
+     * The GeometryStore of the countries (off-heap points and on-heap index)
+     * plus the content of the country paths and the geometry JavaFX builds
+     * from it. The content changes with culling and clipping, so it is
+     * estimated with every sample, -1 before the first one.
+     */
+    @Override public long getGeometryBytes() { return geometryBytes; }
+
+    @Override public void reset() {
+        FILL_AND_STROKE_COUNT.reset();
+        FILL_AND_STROKE_NANOS.reset();
+        MOUSE_EVENT_COUNT.reset();
+        MOUSE_EVENT_NANOS.reset();
+        lastMouseEventNanos = 0;
+        WORLD.scalableContentPane.resetStatistics();
+    }
+
+    /**
+     * @return the interval in which node counts, location count and backlog are sampled
+     */
+    public Duration getSampleInterval() { return Duration.millis(sampleInterval / 1_000_000.0); }
+    public void setSampleInterval(final Duration INTERVAL) { sampleInterval = Math.max(1, (long) (INTERVAL.toMillis() * 1_000_000)); }
+
+    /**
+     * Listeners are called on the FX thread after every sample.
+     */
+    public void addListener(final Listener LISTENER) {
+        LISTENERS.add(LISTENER);
+        updateSampling();
+    }
+    public void removeListener(final Listener LISTENER) {
+        LISTENERS.remove(LISTENER);
+        updateSampling();
+    }
+
+    /**
+     * Registers the metrics at the platform MBean server as
+     * eu.hansolo.fx.world:type=World,name=NAME.
+     *
+     * @param NAME the name that identifies the world, e.g. the dashboard it belongs to
+     * @return the name the MBean was registered with
+     */
+    public synchronized ObjectName register(final String NAME) throws JMException {
+        if (null != objectName) { return objectName; }
+        final ObjectName OBJECT_NAME = new ObjectName(DOMAIN + ":type=World,name=" + ObjectName.quote(NAME));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, OBJECT_NAME);
+        objectName = OBJECT_NAME;
+        updateSampling();
+        return OBJECT_NAME;
+    }
+    public synchronized void unregister() throws JMException {
+        if (null == objectName) { return; }
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        objectName = null;
+        updateSampling();
+    }
+
+    void fillAndStrokeApplied(final long NANOS) {
+        FILL_AND_STROKE_COUNT.increment();
+        FILL_AND_STROKE_NANOS.add(NANOS);
+    }
+
+    void mouseEventHandled(final long NANOS) {
+        MOUSE_EVENT_COUNT.increment();
+        MOUSE_EVENT_NANOS.add(NANOS);
+        lastMouseEventNanos = NANOS;
+    }
+
+    private void updateSampling() {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::updateSampling);
+            return;
+        }
+        final boolean ACTIVE;
+        synchronized (this) { ACTIVE = null != objectName || !LISTENERS.isEmpty(); }
+        if (ACTIVE == sampling) { return; }
+        sampling = ACTIVE;
+        if (ACTIVE) {
+            lastSample = 0;
+            SAMPLER.start();
+        } else {
+            SAMPLER.stop();
+        }
+    }
+
+    private void sample() {
+        final Map<String, Integer> COUNTS = new LinkedHashMap<>();
+        COUNTS.put("countries", countNodes(WORLD.countryLayer));
+        COUNTS.put("overlay", countNodes(WORLD.overlay));
+        COUNTS.put("locations", WORLD.locations.size());
+        for (Node layer : WORLD.layers.getChildren()) { COUNTS.merge(layer.getClass().getSimpleName(), 1, Integer::sum); }
+        nodeCounts    = Collections.unmodifiableMap(COUNTS);
+        locationCount = WORLD.locations.size();
+        updateBacklog = WORLD.getUpdateScheduler().getBacklog();
+        geometryBytes = estimateGeometryBytes();
+        for (Listener listener : LISTENERS) { listener.metricsUpdated(this); }
+    }
+
+    private static int countNodes(final Node NODE) {
+        int count = 1;
+        if (NODE instanceof Parent) {
+            for (Node child : ((Parent) NODE).getChildrenUnmodifiable()) { count += countNodes(child); }
+        }
+        return count;
+    }
+
+    /**
+     * The memory usage of the stores plus per path the characters of its
+     * content, a float per coordinate and a segment byte per point in the
+     * path geometry of JavaFX.
+     */
+    private long estimateGeometryBytes() {
+        final Set<GeometryStore> STORES = Collections.newSetFromMap(new IdentityHashMap<>());
+        long                     bytes  = 0;
+        for (List<CountryPath> paths : WORLD.countryPaths.values()) {
+            for (CountryPath path : paths) {
+                if (null != path.getCountry()) { STORES.add(GeometryStore.of(path.getCountry())); }
+                final String CONTENT = path.getContent();
+                if (null == CONTENT) { continue; }
+                int     numbers  = 0;
+                boolean inNumber = false;
+                for (int i = 0 ; i < CONTENT.length() ; i++) {
+                    final char    C      = CONTENT.charAt(i);
+                    final boolean NUMBER = (C >= '0' && C <= '9') || '.' == C;
+                    if (NUMBER && !inNumber) { numbers++; }
+                    inNumber = NUMBER;
+                }
+                bytes += 40 + 2L * CONTENT.length() + 4L * numbers + numbers / 2;
+            }
+        }
+        for (GeometryStore store : STORES) { bytes += store.getMemoryUsage(); }
+        return bytes;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public interface Listener {
+        void metricsUpdated(WorldMetrics METRICS);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import java.util.Map;
+
+
+/**
+ * The management interface of {@link WorldMetrics}. Counters and times are
+ * totals since the start or the last reset, times are in nanoseconds.
+ */
+public interface WorldMetricsMXBean {
+
+    /**
+     * @return the number of nodes per layer, MapLayers are listed by class name
+     */
+    Map<String, Integer> getNodeCounts();
+
+    int getLocationCount();
+
+    long getLayoutPasses();
+
+    long getComputeScaleNanos();
+
+    long getFillAndStrokeCount();
+
+    long getFillAndStrokeNanos();
+
+    long getMouseEventCount();
+
+    long getMouseEventNanos();
+
+    /**
+     * @return the time the last mouse event on a country took
+     */
+    long getLastMouseEventNanos();
+
+    /**
+     * @return the number of updates waiting in the UpdateScheduler
+     */
+    int getUpdateBacklog();
+
+    /**
+     * @return the estimated size of the country geometry in bytes
+     */
+    long getGeometryBytes();
+
+    void reset();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+
+public class CountryDatasetTest {
+
+    @Test public void joinsRowsByIso3() throws IOException {
+        final Path FILE = Files.createTempFile("dataset", ".wfxd");
+        try {
+            CountryDataset.write(FILE, new String[] { "DEU", "XXX", "FRA", "DEU" }, new String[] { "gdp" }, new String[] { "2000", "2001" },
+                                 new double[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+            final CountryDataset DATASET = CountryDataset.open(FILE, CountryRegistry.getHighRes());
+            assertTrue(DATASET.contains(CountryHighRes.DE));
+            assertTrue(DATASET.contains(CountryHighRes.FR));
+            assertFalse(DATASET.contains(CountryHighRes.IT));
+            // the first row of a country wins
+            assertEquals(1, DATASET.getValue(CountryHighRes.DE, 0, 0), 0);
+            assertEquals(7, DATASET.getValue(CountryHighRes.FR, 0, 1), 0);
+            assertTrue(Double.isNaN(DATASET.getValue(CountryHighRes.IT, 0, 0)));
+            assertEquals(Arrays.asList("2000", "2001"), DATASET.getTimeSteps());
+            assertEquals(5, DATASET.getColumn("gdp", "2001").get(CountryHighRes.DE), 0);
+        } finally {
+            Files.delete(FILE);
+        }
+    }
+
+    @Test public void convertsCsv() throws IOException {
+        final Path CSV  = Files.createTempFile("dataset", ".csv");
+        final Path FILE = Files.createTempFile("dataset", ".wfxd");
+        try {
+            Files.write(CSV, Arrays.asList("iso3,indicator,timeStep,value", "deu,gdp,2000,1.5", "FRA,gdp,2001,2.5", "FRA,pop,2000,"), StandardCharsets.UTF_8);
+            CountryDataset.convertCsv(CSV, FILE);
+            final CountryDataset DATASET = CountryDataset.open(FILE, CountryRegistry.getHighRes());
+            assertEquals(Arrays.asList("gdp", "pop"), DATASET.getIndicators());
+            assertEquals(1.5, DATASET.getValue(CountryHighRes.DE, 0, 0), 0);
+            assertEquals(2.5, DATASET.getValue(CountryHighRes.FR, 0, 1), 0);
+            assertTrue(Double.isNaN(DATASET.getValue(CountryHighRes.FR, 1, 0)));
+            assertTrue(Double.isNaN(DATASET.getValue(CountryHighRes.DE, 0, 1)));
+        } finally {
+            Files.delete(CSV);
+            Files.delete(FILE);
+        }
+    }
+
+    @Test public void truncatedFilesAreRejected() throws IOException {
+        final Path FILE = Files.createTempFile("dataset", ".wfxd");
+        try {
+            CountryDataset.write(FILE, new String[] { "DEU", "FRA" }, new String[] { "gdp" }, new String[] { "2000" }, new double[] { 1, 2 });
+            final byte[] BYTES = Files.readAllBytes(FILE);
+            for (int length = 0 ; length < BYTES.length ; length++) {
+                Files.write(FILE, Arrays.copyOf(BYTES, length));
+                try {
+                    CountryDataset.open(FILE, CountryRegistry.getHighRes());
+                    fail("Opened a file truncated to " + length + " bytes");
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+        } finally {
+            Files.delete(FILE);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+public class CountryOutlinesTest {
+    private static final Bounds CLIP = new BoundingBox(0, 0, 10, 10);
+
+
+    @Test public void ringInsideIsUnchanged() {
+        final double[] RING = { 1, 1, 9, 1, 9, 9, 1, 9 };
+        assertArrayEquals(RING, CountryOutlines.clipRing(RING, RING.length, CLIP), 0);
+    }
+
+    @Test public void ringOutsideIsEmpty() {
+        final double[] RING = { 20, 20, 30, 20, 30, 30 };
+        assertEquals(0, CountryOutlines.clipRing(RING, RING.length, CLIP).length);
+    }
+
+    @Test public void ringAroundTheClipBecomesTheClip() {
+        final double[] RING = { -5, -5, 15, -5, 15, 15, -5, 15 };
+        final double[] CLIPPED = CountryOutlines.clipRing(RING, RING.length, CLIP);
+        assertEquals(100, area(CLIPPED), 1e-9);
+        for (double v : CLIPPED) { assertEquals(0, Math.min(Math.abs(v), Math.abs(v - 10)), 1e-9); }
+    }
+
+    @Test public void crossingRingIsCut() {
+        // triangle with its tip 5 units to the right of the clip rectangle
+        final double[] RING    = { 5, 0, 15, 5, 5, 10 };
+        final double[] CLIPPED = CountryOutlines.clipRing(RING, RING.length, CLIP);
+        assertEquals(4, CLIPPED.length / 2);
+        assertEquals(area(RING) - 12.5, area(CLIPPED), 1e-9);
+    }
+
+    @Test public void onlyTheGivenLengthIsUsed() {
+        final double[] RING = { 1, 1, 9, 1, 9, 9, 99, 99 };
+        assertArrayEquals(new double[] { 1, 1, 9, 1, 9, 9 }, CountryOutlines.clipRing(RING, 6, CLIP), 0);
+    }
+
+    private static double area(final double[] RING) {
+        double area = 0;
+        for (int i = 0 ; i < RING.length ; i += 2) {
+            final int J = (i + 2) % RING.length;
+            area += RING[i] * RING[J + 1] - RING[J] * RING[i + 1];
+        }
+        return Math.abs(area) * 0.5;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class LabelLayerTest {
+    private static final double[] SQUARE = { 0, 0, 10, 0, 10, 10, 0, 10 };
+
+
+    @Test public void poleOfSquareIsItsCenter() {
+        final double[] POLE = LabelLayer.poleOfInaccessibility(new double[][] { SQUARE }, new double[] { 0, 0, 10, 10 });
+        assertEquals(5, POLE[0], 0.1);
+        assertEquals(5, POLE[1], 0.1);
+        assertEquals(5, POLE[2], 0.1);
+    }
+
+    @Test public void poleOfConcaveRingIsInside() {
+        // U shape, the center of its bounds lies in the notch
+        final double[] U    = { 0, 0, 30, 0, 30, 30, 20, 30, 20, 10, 10, 10, 10, 30, 0, 30 };
+        final double[] POLE = LabelLayer.poleOfInaccessibility(new double[][] { U }, new double[] { 0, 0, 30, 30 });
+        // largest circle in a bottom corner touching two sides and the corner of the notch
+        final double   R    = 10 / (1 + Math.sqrt(0.5));
+        assertEquals(R, POLE[2], 0.3);
+        assertEquals(R, POLE[1], 0.5);
+        assertTrue(POLE[0] < 10 || POLE[0] > 20);
+    }
+
+    @Test public void holesCountAsOutline() {
+        final double[] OUTER = { 0, 0, 20, 0, 20, 20, 0, 20 };
+        final double[] HOLE  = { 5, 5, 15, 5, 15, 15, 5, 15 };
+        final double[] POLE  = LabelLayer.poleOfInaccessibility(new double[][] { OUTER, HOLE }, new double[] { 0, 0, 20, 20 });
+        // largest circle in a corner touching two sides and the corner of the hole
+        assertEquals(5 * Math.sqrt(2) / (1 + Math.sqrt(2)), POLE[2], 0.2);
+        assertFalse(POLE[0] > 5 && POLE[0] < 15 && POLE[1] > 5 && POLE[1] < 15);
+    }
+
+    @Test public void emptyBoundsHaveNoDistance() {
+        final double[] POLE = LabelLayer.poleOfInaccessibility(new double[][] { { 3, 4, 3, 4 } }, new double[] { 3, 4, 3, 4 });
+        assertEquals(3, POLE[0], 0);
+        assertEquals(4, POLE[1], 0);
+        assertEquals(0, POLE[2], 0);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package eu.hansolo.fx.world;
+
+import eu.hansolo.fx.world.MovingObjectLayer.LongIntMap;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+
+public class LongIntMapTest {
+
+    @Test public void putGetAndRemove() {
+        final LongIntMap MAP = new LongIntMap(4);
+        for (long id = -50 ; id < 50 ; id++) { MAP.put(id * 31, (int) id + 50); }
+        assertEquals(100, MAP.size());
+        for (long id = -50 ; id < 50 ; id++) { assertEquals((int) id + 50, MAP.get(id * 31)); }
+        for (long id = -50 ; id < 50 ; id += 2) { MAP.remove(id * 31); }
+        assertEquals(50, MAP.size());
+        for (long id = -50 ; id < 50 ; id++) { assertEquals(0 == (id & 1) ? -1 : (int) id + 50, MAP.get(id * 31)); }
+    }
+
+    @Test public void minValueIsAValidKey() {
+        final LongIntMap MAP = new LongIntMap(4);
+        assertEquals(-1, MAP.get(Long.MIN_VALUE));
+        MAP.put(Long.MIN_VALUE, 7);
+        MAP.put(0, 3);
+        assertEquals(7, MAP.get(Long.MIN_VALUE));
+        assertEquals(3, MAP.get(0));
+        assertEquals(2, MAP.size());
+        // the key survives a rehash and does not occupy an entry of the table
+        for (int i = 1 ; i < 100 ; i++) { MAP.put(i, i); }
+        assertEquals(7, MAP.get(Long.MIN_VALUE));
+        MAP.remove(Long.MIN_VALUE);
+        assertEquals(-1, MAP.get(Long.MIN_VALUE));
+        assertEquals(99, MAP.get(99));
+        assertEquals(100, MAP.size());
+    }
+}
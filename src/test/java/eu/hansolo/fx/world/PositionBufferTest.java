@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class PositionBufferTest {
+
+    @Test public void capacityIsRoundedUpToAPowerOfTwo() {
+        assertEquals(8, new PositionBuffer(5).getCapacity());
+        assertEquals(8, new PositionBuffer(8).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void capacityMustBeAtLeastTwo() {
+        new PositionBuffer(1);
+    }
+
+    @Test public void drainsInOfferOrder() {
+        final PositionBuffer BUFFER = new PositionBuffer(4);
+        for (int round = 0 ; round < 5 ; round++) {
+            for (long id = 0 ; id < 3 ; id++) { assertTrue(BUFFER.offer(id, id + 0.5, -id, round)); }
+            assertEquals(3, BUFFER.size());
+            final List<Long> IDS = new ArrayList<>();
+            assertEquals(3, BUFFER.drain((id, lat, lon, time) -> {
+                assertEquals(id + 0.5, lat, 0);
+                assertEquals(-id, lon, 0);
+                IDS.add(id);
+            }));
+            assertEquals(0, BUFFER.size());
+            assertEquals(3, IDS.size());
+            for (int i = 0 ; i < 3 ; i++) { assertEquals(i, IDS.get(i).longValue()); }
+        }
+    }
+
+    @Test public void passesExtremeIds() {
+        final PositionBuffer BUFFER = new PositionBuffer(4);
+        assertTrue(BUFFER.offer(Long.MIN_VALUE, 1, 2, 3));
+        assertTrue(BUFFER.offer(Long.MAX_VALUE, 4, 5, 6));
+        final List<Long> IDS = new ArrayList<>();
+        BUFFER.drain((id, lat, lon, time) -> IDS.add(id));
+        assertEquals(Long.MIN_VALUE, IDS.get(0).longValue());
+        assertEquals(Long.MAX_VALUE, IDS.get(1).longValue());
+    }
+
+    @Test public void dropsWhenFull() {
+        final PositionBuffer BUFFER = new PositionBuffer(2);
+        assertTrue(BUFFER.offer(1, 0, 0, 0));
+        assertTrue(BUFFER.offer(2, 0, 0, 0));
+        assertFalse(BUFFER.offer(3, 0, 0, 0));
+        assertEquals(1, BUFFER.getDroppedCount());
+        assertEquals(2, BUFFER.drain((id, lat, lon, time) -> {}));
+        assertTrue(BUFFER.offer(4, 0, 0, 0));
+    }
+
+    @Test public void concurrentProducersLoseNothingButDrops() throws InterruptedException {
+        final PositionBuffer BUFFER    = new PositionBuffer(1 << 10);
+        final int            PRODUCERS = 4;
+        final int            FIXES     = 100_000;
+        final CountDownLatch DONE      = new CountDownLatch(PRODUCERS);
+        final long[]         LAST      = new long[PRODUCERS];
+        java.util.Arrays.fill(LAST, -1);
+        for (int p = 0 ; p < PRODUCERS ; p++) {
+            final int PRODUCER = p;
+            new Thread(() -> {
+                for (int i = 0 ; i < FIXES ; i++) { BUFFER.offer(PRODUCER, 0, 0, i); }
+                DONE.countDown();
+            }).start();
+        }
+        final long[] drained = new long[1];
+        final PositionBuffer.PositionConsumer CONSUMER = (id, lat, lon, time) -> {
+            // the fixes of one producer arrive in the order it offered them
+            assertTrue(time > LAST[(int) id]);
+            LAST[(int) id] = time;
+            drained[0]++;
+        };
+        while (DONE.getCount() > 0) { BUFFER.drain(CONSUMER); }
+        BUFFER.drain(CONSUMER);
+        assertEquals((long) PRODUCERS * FIXES, drained[0] + BUFFER.getDroppedCount());
+    }
+}
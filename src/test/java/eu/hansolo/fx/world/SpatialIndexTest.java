@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+public class SpatialIndexTest {
+
+    @Test public void queryMatchesBruteForce() {
+        final Random                RND   = new Random(42);
+        final SpatialIndex<Integer> INDEX = new SpatialIndex<>(0, 0, 1000, 1000);
+        final List<double[]>        BOXES = new ArrayList<>();
+        for (int i = 0 ; i < 5000 ; i++) {
+            // mostly small items, some large ones that straddle quadrants
+            final double W = i % 50 == 0 ? RND.nextDouble() * 500 : RND.nextDouble() * 5;
+            final double H = i % 50 == 0 ? RND.nextDouble() * 500 : RND.nextDouble() * 5;
+            final double X = RND.nextDouble() * (1000 - W);
+            final double Y = RND.nextDouble() * (1000 - H);
+            BOXES.add(new double[] { X, Y, X + W, Y + H });
+            INDEX.add(i, X, Y, X + W, Y + H);
+        }
+        for (int i = 0 ; i < 5000 ; i += 3) { INDEX.remove(i); }
+        assertEquals(5000 - 1667, INDEX.size());
+
+        for (int q = 0 ; q < 200 ; q++) {
+            final double X = RND.nextDouble() * 1000;
+            final double Y = RND.nextDouble() * 1000;
+            final double W = RND.nextDouble() * 300;
+            final double H = RND.nextDouble() * 300;
+            final Set<Integer> EXPECTED = new HashSet<>();
+            for (int i = 0 ; i < BOXES.size() ; i++) {
+                final double[] B = BOXES.get(i);
+                if (i % 3 != 0 && B[2] >= X && B[0] <= X + W && B[3] >= Y && B[1] <= Y + H) { EXPECTED.add(i); }
+            }
+            final Set<Integer> ACTUAL = new HashSet<>();
+            INDEX.query(X, Y, X + W, Y + H, item -> assertTrue("reported twice", ACTUAL.add(item)));
+            assertEquals(EXPECTED, ACTUAL);
+        }
+    }
+
+    @Test public void addingAgainMovesTheItem() {
+        final SpatialIndex<String> INDEX = new SpatialIndex<>(0, 0, 100, 100);
+        INDEX.add("a", 10, 10, 11, 11);
+        INDEX.add("a", 80, 80, 81, 81);
+        assertEquals(1, INDEX.size());
+        final List<String> FOUND = new ArrayList<>();
+        INDEX.query(0, 0, 50, 50, FOUND::add);
+        assertTrue(FOUND.isEmpty());
+        INDEX.query(50, 50, 100, 100, FOUND::add);
+        assertEquals(1, FOUND.size());
+    }
+
+    @Test public void itemsOutsideOfTheRootAreFound() {
+        final SpatialIndex<String> INDEX = new SpatialIndex<>(0, 0, 100, 100);
+        INDEX.add("outside", -20, -20, -10, -10);
+        final List<String> FOUND = new ArrayList<>();
+        INDEX.query(-15, -15, -12, -12, FOUND::add);
+        assertEquals(1, FOUND.size());
+    }
+
+    @Test public void intersects() {
+        final SpatialIndex<String> INDEX = new SpatialIndex<>(0, 0, 100, 100);
+        // straddles the center of the root
+        INDEX.add("a", 45, 45, 55, 55);
+        assertTrue(INDEX.intersects("a", 50, 50, 60, 60));
+        assertTrue(INDEX.intersects("a", 55, 55, 60, 60));
+        assertFalse(INDEX.intersects("a", 56, 56, 60, 60));
+        assertFalse(INDEX.intersects("b", 0, 0, 100, 100));
+    }
+
+    @Test public void clear() {
+        final SpatialIndex<String> INDEX = new SpatialIndex<>(0, 0, 100, 100);
+        INDEX.add("a", 1, 1, 2, 2);
+        INDEX.clear();
+        assertEquals(0, INDEX.size());
+        assertFalse(INDEX.contains("a"));
+        INDEX.query(0, 0, 100, 100, item -> { throw new AssertionError(item); });
+    }
+}
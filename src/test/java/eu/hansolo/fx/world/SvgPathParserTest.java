@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import com.sun.javafx.geom.Path2D;
+import com.sun.javafx.geom.PathIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+
+/**
+ * Compares the rings of SvgPathParser with the geometry JavaFX builds for
+ * an SVGPath from the same content.
+ */
+public class SvgPathParserTest {
+    // JavaFX accumulates relative coordinates in float, the parser in double
+    private static final double EPSILON = 1e-2;
+
+
+    @Test public void absoluteCommands() {
+        assertRings(new double[][] { { 1, 2, 3, 2, 3, 5, 1, 5 } }, SvgPathParser.parse("M1,2L3,2V5H1z"));
+    }
+
+    @Test public void relativeCommands() {
+        assertRings(new double[][] { { 1, 2, 3, 2, 3, 5, 1, 5 } }, SvgPathParser.parse("m1,2l2,0v3h-2z"));
+    }
+
+    @Test public void implicitLineTo() {
+        assertRings(new double[][] { { 1, 1, 2, 1, 2, 2 } }, SvgPathParser.parse("M1 1 2 1 2 2z"));
+        assertRings(new double[][] { { 1, 1, 2, 1, 2, 2 } }, SvgPathParser.parse("m1 1 1 0 0 1z"));
+    }
+
+    @Test public void relativeMoveAfterClose() {
+        // after z the current point is the start of the closed ring
+        assertRings(new double[][] { { 10, 10, 12, 10, 12, 12 }, { 11, 11, 12, 11, 12, 12 } },
+                    SvgPathParser.parse("M10,10l2,0l0,2zm1,1l1,0l0,1z"));
+    }
+
+    @Test public void numberFormats() {
+        assertRings(new double[][] { { -0.5, 0.25, 1e2, -1.5e-1, 0.5, 0.5 } }, SvgPathParser.parse("M-.5.25L1e2-1.5E-1L+.5,.5z"));
+    }
+
+    @Test public void bounds() {
+        assertArrayEquals(new double[] { -1, 2, 3, 7 }, SvgPathParser.bounds(new double[][] { { 0, 2, 3, 4 }, { -1, 7 } }), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void unsupportedCommand() {
+        SvgPathParser.parse("M0,0C1,1,2,2,3,3z");
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void missingCommand() {
+        SvgPathParser.parse("1,1L2,2");
+    }
+
+    @Test public void matchesJavaFxForHighRes() {
+        assertMatchesJavaFx(CountryHighRes.values(), GeometryStore.readPathStrings("countries-high-res.txt", CountryHighRes.values()));
+    }
+
+    @Test public void matchesJavaFxForLowRes() {
+        assertMatchesJavaFx(CountryLowRes.values(), GeometryStore.readPathStrings("countries-low-res.txt", CountryLowRes.values()));
+    }
+
+    @Test public void storeContentMatchesSource() {
+        // 16 bit per coordinate relative to the country bounds, Russia spans about 600 map units
+        final String[][] SOURCE = GeometryStore.readPathStrings("countries-high-res.txt", CountryHighRes.values());
+        for (CountryHighRes country : new CountryHighRes[] { CountryHighRes.RU, CountryHighRes.DE, CountryHighRes.MC }) {
+            for (int p = 0 ; p < SOURCE[country.ordinal()].length ; p++) {
+                final double[][] EXPECTED = SvgPathParser.parse(SOURCE[country.ordinal()][p]);
+                final double[][] ACTUAL   = SvgPathParser.parse(GeometryStore.getHighRes().getContent(country, p));
+                assertEquals(country.name() + " ring count", EXPECTED.length, ACTUAL.length);
+                for (int r = 0 ; r < EXPECTED.length ; r++) {
+                    assertArrayEquals(country.name() + " bounds of ring " + r, SvgPathParser.bounds(new double[][] { EXPECTED[r] }),
+                                      SvgPathParser.bounds(new double[][] { ACTUAL[r] }), 0.02);
+                }
+            }
+        }
+    }
+
+    private static void assertMatchesJavaFx(final Country[] COUNTRIES, final String[][] PATH_STRINGS) {
+        for (Country country : COUNTRIES) {
+            for (String content : PATH_STRINGS[country.ordinal()]) {
+                assertRings(country.name(), javaFxRings(content), SvgPathParser.parse(content));
+            }
+        }
+    }
+
+    private static void assertRings(final double[][] EXPECTED, final double[][] ACTUAL) { assertRings("", EXPECTED, ACTUAL); }
+    private static void assertRings(final String NAME, final double[][] EXPECTED, final double[][] ACTUAL) {
+        assertEquals(NAME + " ring count", EXPECTED.length, ACTUAL.length);
+        for (int r = 0 ; r < EXPECTED.length ; r++) {
+            if (EXPECTED[r].length != ACTUAL[r].length) {
+                fail(NAME + " ring " + r + " has " + ACTUAL[r].length / 2 + " points instead of " + EXPECTED[r].length / 2);
+            }
+            for (int i = 0 ; i < EXPECTED[r].length ; i++) {
+                if (Math.abs(EXPECTED[r][i] - ACTUAL[r][i]) > EPSILON) {
+                    fail(NAME + " ring " + r + " coordinate " + i + " is " + ACTUAL[r][i] + " instead of " + EXPECTED[r][i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flattens the geometry of JavaFX into rings, a line after a close
+     * starts a new ring at the start of the closed one.
+     */
+    private static double[][] javaFxRings(final String CONTENT) {
+        final Path2D         PATH   = new Path2D();
+        final List<double[]> RINGS  = new ArrayList<>();
+        final float[]        COORDS = new float[6];
+        PATH.appendSVGPath(CONTENT);
+        double[] ring   = new double[0];
+        float    startX = 0;
+        float    startY = 0;
+        boolean  closed = false;
+        for (PathIterator i = PATH.getPathIterator(null) ; !i.isDone() ; i.next()) {
+            switch (i.currentSegment(COORDS)) {
+                case PathIterator.SEG_MOVETO:
+                    if (ring.length > 0) { RINGS.add(ring); }
+                    ring   = new double[] { COORDS[0], COORDS[1] };
+                    startX = COORDS[0];
+                    startY = COORDS[1];
+                    closed = false;
+                    break;
+                case PathIterator.SEG_LINETO:
+                    if (closed) {
+                        RINGS.add(ring);
+                        ring   = new double[] { startX, startY };
+                        closed = false;
+                    }
+                    ring = Arrays.copyOf(ring, ring.length + 2);
+                    ring[ring.length - 2] = COORDS[0];
+                    ring[ring.length - 1] = COORDS[1];
+                    break;
+                case PathIterator.SEG_CLOSE:
+                    closed = true;
+                    break;
+                default: throw new AssertionError("Unexpected segment");
+            }
+        }
+        if (ring.length > 0) { RINGS.add(ring); }
+        return RINGS.toArray(new double[RINGS.size()][]);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+
+public class TrailLayerTest {
+
+    @Test public void eastwardsStepEndsAtTheAntimeridian() {
+        // from 170 E to 170 W, the antimeridian is halfway
+        final double   Y1       = Projection.toY(10);
+        final double   Y2       = Projection.toY(20);
+        final double[] CROSSING = TrailLayer.antimeridianCrossing(Projection.toX(170), Y1, Projection.toX(-170), Y2);
+        assertEquals(Projection.toX(180), CROSSING[0], 1e-9);
+        assertEquals((Y1 + Y2) * 0.5, CROSSING[1], 1e-9);
+        assertEquals(Projection.toX(-180), CROSSING[2], 1e-9);
+    }
+
+    @Test public void westwardsStepEndsAtTheAntimeridian() {
+        // from 175 W to 165 E, a quarter of the step lies east of the antimeridian
+        final double   Y1       = Projection.toY(-40);
+        final double   Y2       = Projection.toY(-20);
+        final double[] CROSSING = TrailLayer.antimeridianCrossing(Projection.toX(-175), Y1, Projection.toX(165), Y2);
+        assertEquals(Projection.toX(-180), CROSSING[0], 1e-9);
+        assertEquals(Y1 + (Y2 - Y1) * 0.25, CROSSING[1], 1e-9);
+        assertEquals(Projection.toX(180), CROSSING[2], 1e-9);
+    }
+
+    @Test public void shortStepsDoNotCross() {
+        assertNull(TrailLayer.antimeridianCrossing(Projection.toX(-10), 100, Projection.toX(10), 120));
+        assertNull(TrailLayer.antimeridianCrossing(Projection.toX(179), 100, Projection.toX(175), 120));
+    }
+}
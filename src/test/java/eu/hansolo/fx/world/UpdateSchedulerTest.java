@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.hansolo.fx.world;
+
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+
+public class UpdateSchedulerTest {
+    private static final int MAX_BACKLOG = 10;
+    private static final int COUNT       = 100;
+
+
+    @Test public void droppedUpdatesAreAppliedWhenTheBacklogDrained() {
+        final UpdateScheduler SCHEDULER = scheduler();
+        final Rectangle[] SHAPES = shapes();
+        for (Rectangle shape : SHAPES) { SCHEDULER.scheduleFill(shape, Color.BLUE); }
+
+        assertEquals(MAX_BACKLOG, SCHEDULER.getBacklog());
+        assertEquals(SHAPES.length - MAX_BACKLOG, SCHEDULER.getDroppedCount());
+        assertEquals(SHAPES.length - MAX_BACKLOG, SCHEDULER.getDirtyCount());
+
+        SCHEDULER.flush();
+        for (Rectangle shape : SHAPES) { assertEquals(Color.BLUE, shape.getFill()); }
+        assertEquals(0, SCHEDULER.getDirtyCount());
+    }
+
+    @Test public void newerUpdateReplacesDroppedOne() {
+        final UpdateScheduler SCHEDULER = scheduler();
+        final Rectangle[] SHAPES = shapes();
+        for (Rectangle shape : SHAPES) { SCHEDULER.scheduleFill(shape, Color.RED); }
+        for (Rectangle shape : SHAPES) { SCHEDULER.scheduleFill(shape, Color.BLUE); }
+
+        assertTrue(SCHEDULER.getDirtyCount() <= SHAPES.length - MAX_BACKLOG);
+        SCHEDULER.flush();
+        for (Rectangle shape : SHAPES) { assertEquals(Color.BLUE, shape.getFill()); }
+        // every shape is filled once, either from the backlog or as dirty
+        assertEquals(SHAPES.length, SCHEDULER.getAppliedCount());
+    }
+
+    @Test public void cancelDropsDirtyUpdates() {
+        final UpdateScheduler SCHEDULER = scheduler();
+        final Rectangle[] SHAPES = shapes();
+        for (Rectangle shape : SHAPES) { SCHEDULER.scheduleFill(shape, Color.BLUE); }
+        SCHEDULER.cancel();
+        SCHEDULER.flush();
+        assertEquals(0, SCHEDULER.getAppliedCount());
+        assertEquals(0, SCHEDULER.getDirtyCount());
+    }
+
+    private static UpdateScheduler scheduler() {
+        final UpdateScheduler SCHEDULER = new UpdateScheduler(node -> true) {
+            @Override void startTimer() { }
+            @Override void stopTimer() { }
+        };
+        SCHEDULER.setMaxBacklog(MAX_BACKLOG);
+        return SCHEDULER;
+    }
+
+    private static Rectangle[] shapes() {
+        final Rectangle[] RESULT = new Rectangle[COUNT];
+        for (int i = 0 ; i < RESULT.length ; i++) { RESULT[i] = new Rectangle(1, 1, Color.BLACK); }
+        return RESULT;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2016 by Gerrit Grunwald
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package eu.hansolo.fx.world;
+
+import javafx.scene.paint.Color;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+
+public class WorkloadLogTest {
+
+    @Test public void roundTrip() throws IOException {
+        final Path FILE = Files.createTempFile("workload", ".log");
+        try {
+            try (WorkloadLog.Writer writer = new WorkloadLog.Writer(FILE)) {
+                writer.locationAdded(0, 0, "Zero", 1.5, -2.5, 0);
+                writer.locationAdded(127, Integer.MAX_VALUE, "Max", -85, 180, 0xFF336699);
+                writer.locationMoved(128, 300, 10, 20);
+                writer.locationRemoved(16_384, 300);
+                writer.countryFill(Long.MAX_VALUE / 2, "DE", 0x80FF0000);
+                writer.mouse(Long.MAX_VALUE / 2, WorkloadLog.MOUSE_SCROLLED, 10, 20, -40);
+                writer.resize(Long.MAX_VALUE, 800, 600);
+                writer.objectFix(Long.MAX_VALUE, 2, Long.MIN_VALUE, 48.1, 11.6, 1_234_567L);
+                writer.countryValue(Long.MAX_VALUE, "FR", "67");
+                writer.countryValue(Long.MAX_VALUE, "FR", null);
+                assertEquals(10, writer.getCount());
+            }
+            try (WorkloadLog.Reader reader = new WorkloadLog.Reader(FILE)) {
+                final WorkloadLog.Event EVENT = new WorkloadLog.Event();
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.LOCATION_ADDED, EVENT.type);
+                assertEquals(0, EVENT.micros);
+                assertEquals(0, EVENT.id);
+                assertEquals("Zero", EVENT.name);
+                assertEquals(1.5, EVENT.latitude, 0);
+                assertEquals(-2.5, EVENT.longitude, 0);
+                assertEquals(0, EVENT.argb);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(127, EVENT.micros);
+                assertEquals(Integer.MAX_VALUE, EVENT.id);
+                assertEquals(0xFF336699, EVENT.argb);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.LOCATION_MOVED, EVENT.type);
+                assertEquals(128, EVENT.micros);
+                assertEquals(300, EVENT.id);
+                assertEquals(10, EVENT.latitude, 0);
+                assertEquals(20, EVENT.longitude, 0);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.LOCATION_REMOVED, EVENT.type);
+                assertEquals(16_384, EVENT.micros);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.COUNTRY_FILL, EVENT.type);
+                assertEquals(Long.MAX_VALUE / 2, EVENT.micros);
+                assertEquals("DE", EVENT.name);
+                assertEquals(0x80FF0000, EVENT.argb);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.MOUSE, EVENT.type);
+                assertEquals(WorkloadLog.MOUSE_SCROLLED, EVENT.kind);
+                assertEquals(-40, EVENT.delta, 0);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.RESIZE, EVENT.type);
+                assertEquals(Long.MAX_VALUE, EVENT.micros);
+                assertEquals(800, EVENT.width, 0);
+                assertEquals(600, EVENT.height, 0);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.OBJECT_FIX, EVENT.type);
+                assertEquals(2, EVENT.layer);
+                assertEquals(Long.MIN_VALUE, EVENT.objectId);
+                assertEquals(48.1, EVENT.latitude, 0);
+                assertEquals(11.6, EVENT.longitude, 0);
+                assertEquals(1_234_567L, EVENT.time);
+
+                assertTrue(reader.next(EVENT));
+                assertEquals(WorkloadLog.COUNTRY_VALUE, EVENT.type);
+                assertEquals("FR", EVENT.name);
+                assertEquals("67", EVENT.value);
+
+                assertTrue(reader.next(EVENT));
+                assertNull(EVENT.value);
+
+                assertFalse(reader.next(EVENT));
+            }
+        } finally {
+            Files.delete(FILE);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void eventsMustBeChronological() throws IOException {
+        final Path FILE = Files.createTempFile("workload", ".log");
+        try (WorkloadLog.Writer writer = new WorkloadLog.Writer(FILE)) {
+            writer.locationRemoved(10, 1);
+            writer.locationRemoved(9, 1);
+        } finally {
+            Files.delete(FILE);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class) public void rejectsOtherFiles() throws IOException {
+        final Path FILE = Files.createTempFile("workload", ".log");
+        try {
+            Files.write(FILE, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+            new WorkloadLog.Reader(FILE).close();
+        } finally {
+            Files.delete(FILE);
+        }
+    }
+
+    @Test public void colors() {
+        assertNull(WorkloadLog.toColor(0));
+        assertEquals(0, WorkloadLog.toArgb(null));
+        final Color COLOR = Color.rgb(51, 102, 153, 0.5);
+        assertEquals(COLOR.toString(), WorkloadLog.toColor(WorkloadLog.toArgb(COLOR)).toString());
+    }
+}